@@ -0,0 +1,50 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseGpa;
+import com.S17Challenge.SpringRestAPI.entity.CourseGpaConfig;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.persistence.InMemoryCoursePersistence;
+import com.S17Challenge.SpringRestAPI.repository.CourseChangeListener;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+// Benchmark'larda ortak kullanılan test verisi ve Spring olmadan kurulan bileşenler.
+final class BenchmarkCourses {
+
+    private static final String[] NOTES = {"A", "B", "C", "D", "F"};
+
+    private BenchmarkCourses() {
+    }
+
+    static Course course(int id) {
+        return new Course(id, name(id), id % 5, new Grade(1 + id % 4, NOTES[id % NOTES.length]));
+    }
+
+    static String name(int id) {
+        return "Course " + id;
+    }
+
+    static CourseRepository repository(int size) {
+        CourseRepository repository = new CourseRepository(
+                new StaticListableBeanFactory().getBeanProvider(CourseChangeListener.class),
+                new InMemoryCoursePersistence());
+        for (int id = 0; id < size; id++) {
+            repository.add(course(id));
+        }
+        return repository;
+    }
+
+    static GpaCalculator gpaCalculator() {
+        CourseGpaConfig config = new CourseGpaConfig();
+        Map<String, CourseGpa> courseGpas = Map.of(
+                "lowCourseGpa", config.lowCourseGpa(),
+                "mediumCourseGpa", config.mediumCourseGpa(),
+                "highCourseGpa", config.highCourseGpa());
+        return new GpaCalculator(courseGpas, new StandardEnvironment());
+    }
+}
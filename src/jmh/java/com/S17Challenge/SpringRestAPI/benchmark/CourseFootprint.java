@@ -0,0 +1,80 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+
+import java.lang.ref.Reference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntFunction;
+
+// Kurs başına heap kullanımını ölçen küçük araç (JMH benchmark'ı değildir, main metodu ile çalıştırılır).
+// Üç ölçüm yapılır:
+//  - dto:        Course DTO'larının kendisi (eski depo kursları bu şekilde saklıyordu)
+//  - record:     sıkıştırılmış CourseRecord kayıtları
+//  - repository: tüm indeksleriyle birlikte CourseRepository
+// Notlar JSON'dan okunmuş gibi her kurs için yeni bir String olarak üretilir; yoksa derleyicinin paylaştığı
+// sabitler DTO ölçümünü olduğundan küçük gösterir.
+// Sonuçlar JVM'e ve GC ayarlarına bağlıdır; karşılaştırma için aynı JVM ve aynı -Xmx ile çalıştırın. Örnek:
+//      java -Xmx4g -cp <jmh-classpath> com.S17Challenge.SpringRestAPI.benchmark.CourseFootprint 1000000
+public final class CourseFootprint {
+
+    private static final String[] NOTES = {"A", "B", "C", "D", "F"};
+
+    private CourseFootprint() {
+    }
+
+    public static void main(String[] args) {
+        int count = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+
+        report("dto", count, size -> {
+            List<Course> courses = new ArrayList<>(size);
+            for (int id = 0; id < size; id++) {
+                courses.add(decodedCourse(id));
+            }
+            return courses;
+        });
+        report("record", count, size -> {
+            List<CourseRecord> courses = new ArrayList<>(size);
+            for (int id = 0; id < size; id++) {
+                courses.add(CourseRecord.of(decodedCourse(id), id));
+            }
+            return courses;
+        });
+        report("repository", count, size -> {
+            CourseRepository repository = BenchmarkCourses.repository(0);
+            for (int id = 0; id < size; id++) {
+                repository.add(decodedCourse(id));
+            }
+            return repository;
+        });
+    }
+
+    // İsim ve not her kurs için ayrı nesnelerdir, tıpkı istek gövdesinden okunan bir kurs gibi.
+    private static Course decodedCourse(int id) {
+        String note = new String(NOTES[id % NOTES.length]);
+        return new Course(id, BenchmarkCourses.name(id), id % 5, new Grade(1 + id % 4, note));
+    }
+
+    private static void report(String layout, int count, IntFunction<Object> build) {
+        long before = usedHeap();
+        Object retained = build.apply(count);
+        long after = usedHeap();
+        System.out.printf("%-10s %,d courses: %,d bytes total, %.1f bytes/course%n",
+                layout, count, after - before, (double) (after - before) / count);
+        Reference.reachabilityFence(retained); // ölçüm bitene kadar yapının GC tarafından toplanmaması için
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        // GC birkaç kez çağrılır ve en düşük değer alınır; tek bir System.gc() çağrısı garanti değildir.
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            used = Math.min(used, runtime.totalMemory() - runtime.freeMemory());
+        }
+        return used;
+    }
+}
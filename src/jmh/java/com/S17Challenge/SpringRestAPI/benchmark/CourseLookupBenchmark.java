@@ -0,0 +1,61 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// getCourseByName, updateCourse/deleteCourse'un id araması ve addCourse'un aynı isim kontrolü.
+// Katalog büyüdükçe sürenin sabit kalması beklenir.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseLookupBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private CourseRepository repository;
+    private String[] names;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        repository = BenchmarkCourses.repository(catalogSize);
+        names = new String[catalogSize];
+        for (int id = 0; id < catalogSize; id++) {
+            names[id] = BenchmarkCourses.name(id).toUpperCase(); // büyük/küçük harf duyarsız arama
+        }
+    }
+
+    @Benchmark
+    public Optional<Course> lookupByName() {
+        return repository.findByName(names[ThreadLocalRandom.current().nextInt(catalogSize)]);
+    }
+
+    @Benchmark
+    public Optional<Course> lookupById() {
+        return repository.findById(ThreadLocalRandom.current().nextInt(catalogSize));
+    }
+
+    @Benchmark
+    public boolean duplicateCheck() {
+        return repository.existsByName(names[ThreadLocalRandom.current().nextInt(catalogSize)]);
+    }
+}
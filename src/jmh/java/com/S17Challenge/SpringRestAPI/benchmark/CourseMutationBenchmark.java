@@ -0,0 +1,96 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Ekleme/güncelleme/silme karışımı. Tek thread ve çok thread (çekişme) senaryoları ayrı ölçülür.
+// Silinen kurs aynı id ile tekrar eklendiği için katalog boyutu ölçüm boyunca yaklaşık sabit kalır.
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CourseMutationBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private CourseRepository repository;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        repository = BenchmarkCourses.repository(catalogSize);
+    }
+
+    @Benchmark
+    public boolean update() {
+        int id = ThreadLocalRandom.current().nextInt(catalogSize);
+        Course course = BenchmarkCourses.course(id);
+        course.setCredit((course.getCredit() + 1) % 5);
+        return repository.update(id, course) == CourseRepository.UpdateResult.UPDATED;
+    }
+
+    @Benchmark
+    public boolean deleteAndInsert() {
+        int id = ThreadLocalRandom.current().nextInt(catalogSize);
+        repository.deleteById(id);
+        return repository.add(BenchmarkCourses.course(id));
+    }
+
+    // %80 okuma, %15 güncelleme, %5 silme+ekleme karışımı.
+    @Benchmark
+    public Object mixed() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int id = random.nextInt(catalogSize);
+        int operation = random.nextInt(100);
+        if (operation < 80) {
+            return repository.findByName(BenchmarkCourses.name(id));
+        }
+        if (operation < 95) {
+            return update();
+        }
+        repository.deleteById(id);
+        return repository.add(BenchmarkCourses.course(id));
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Object mixedContended() {
+        return mixed();
+    }
+
+    // Aynı katalog üzerinde 6 okuyucu ve 2 yazıcı thread.
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(6)
+    public Optional<Course> readers() {
+        return repository.findByName(BenchmarkCourses.name(ThreadLocalRandom.current().nextInt(catalogSize)));
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(2)
+    public boolean writers() {
+        return update();
+    }
+}
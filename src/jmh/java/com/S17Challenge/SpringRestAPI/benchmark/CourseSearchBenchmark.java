@@ -0,0 +1,54 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.service.CourseSearchIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// GET /courses/search arkasındaki önek ve trigram aramaları. Hedef 1M kursta milisaniyenin altında kalmak.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = "-Xmx4g")
+@State(Scope.Benchmark)
+public class CourseSearchBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int catalogSize;
+
+    private CourseSearchIndex index;
+
+    @Setup
+    public void setUp() {
+        index = new CourseSearchIndex(true);
+        for (int id = 0; id < catalogSize; id++) {
+            index.onAdded(CourseRecord.of(BenchmarkCourses.course(id), id));
+        }
+    }
+
+    @Benchmark
+    public List<Course> prefix() {
+        return index.searchPrefix("course " + ThreadLocalRandom.current().nextInt(1000), 10);
+    }
+
+    @Benchmark
+    public List<Course> fuzzy() {
+        // "Course 12345" için tek harf hatalı bir sorgu
+        return index.searchFuzzy("cuorse " + ThreadLocalRandom.current().nextInt(catalogSize), 10);
+    }
+}
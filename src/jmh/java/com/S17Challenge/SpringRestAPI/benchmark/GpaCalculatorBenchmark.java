@@ -0,0 +1,50 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// totalGpa hesabı: ilkel değerlerle tablo araması ve Course DTO'su üzerinden hesaplama.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GpaCalculatorBenchmark {
+
+    private GpaCalculator gpaCalculator;
+    private Course[] courses;
+
+    @Setup
+    public void setUp() {
+        gpaCalculator = BenchmarkCourses.gpaCalculator();
+        courses = new Course[1024];
+        for (int i = 0; i < courses.length; i++) {
+            courses[i] = BenchmarkCourses.course(i);
+        }
+    }
+
+    @Benchmark
+    public int primitive() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return gpaCalculator.totalGpa(random.nextInt(GpaCalculator.MAX_CREDIT + 1), 1 + random.nextInt(4));
+    }
+
+    @Benchmark
+    public int fromCourse() {
+        return gpaCalculator.totalGpa(courses[ThreadLocalRandom.current().nextInt(courses.length)]);
+    }
+}
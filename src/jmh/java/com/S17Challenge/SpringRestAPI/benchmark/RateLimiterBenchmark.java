@@ -0,0 +1,46 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.ratelimit.ClientRateLimiter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// Hız sınırlayıcının sınırın altındaki istemciler için maliyeti (map okuması + CAS).
+// underLimit: istemciler sınırın çok altında, her istek kabul edilir. Çok thread'li çalıştırılır ki CAS çekişmesi de ölçülsün.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RateLimiterBenchmark {
+
+    private ClientRateLimiter rateLimiter;
+    private String[] clients;
+
+    @Setup
+    public void setUp() {
+        rateLimiter = new ClientRateLimiter(1_000_000_000, 1_000_000, 100_000);
+        clients = new String[1024];
+        for (int i = 0; i < clients.length; i++) {
+            clients[i] = "10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    @Threads(4)
+    public long underLimit() {
+        return rateLimiter.tryAcquire(clients[ThreadLocalRandom.current().nextInt(clients.length)], System.nanoTime());
+    }
+}
@@ -0,0 +1,57 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.ApiResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Course ve ApiResponse nesnelerinin Jackson ile JSON'a çevrilmesi ve geri okunması.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    // Spring Boot ile aynı şekilde classpath'teki modüller (ör. parameter names) kaydedilir.
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private Course course;
+    private ApiResponse apiResponse;
+    private byte[] courseJson;
+
+    @Setup
+    public void setUp() throws IOException {
+        course = BenchmarkCourses.course(42);
+        apiResponse = new ApiResponse(course, 30);
+        courseJson = objectMapper.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] writeCourse() throws IOException {
+        return objectMapper.writeValueAsBytes(course);
+    }
+
+    @Benchmark
+    public byte[] writeApiResponse() throws IOException {
+        return objectMapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public Course readCourse() throws IOException {
+        return objectMapper.readValue(courseJson, Course.class);
+    }
+}
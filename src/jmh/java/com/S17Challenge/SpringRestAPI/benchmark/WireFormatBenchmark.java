@@ -0,0 +1,76 @@
+package com.S17Challenge.SpringRestAPI.benchmark;
+
+import com.S17Challenge.SpringRestAPI.entity.ApiResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// JSON ile CBOR karşılaştırması: ApiResponse ve kurs listesi için yazma/okuma süresi.
+// Yük boyutları (byte) setUp sırasında konsola yazılır.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WireFormatBenchmark {
+
+    private static final TypeReference<List<Course>> COURSE_LIST = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor"})
+    private String format;
+
+    @Param({"1", "1000"})
+    private int listSize;
+
+    private ObjectMapper mapper;
+    private ApiResponse apiResponse;
+    private List<Course> courses;
+    private byte[] encodedList;
+
+    @Setup
+    public void setUp() throws IOException {
+        mapper = ("cbor".equals(format) ? new CBORMapper() : new ObjectMapper()).findAndRegisterModules();
+        apiResponse = new ApiResponse(BenchmarkCourses.course(7), 30);
+        courses = new ArrayList<>(listSize);
+        for (int id = 0; id < listSize; id++) {
+            courses.add(BenchmarkCourses.course(id));
+        }
+        encodedList = mapper.writeValueAsBytes(courses);
+        System.out.printf("%n[%s] ApiResponse: %d bytes, %d courses: %d bytes%n",
+                format, mapper.writeValueAsBytes(apiResponse).length, listSize, encodedList.length);
+    }
+
+    @Benchmark
+    public byte[] writeApiResponse() throws IOException {
+        return mapper.writeValueAsBytes(apiResponse);
+    }
+
+    @Benchmark
+    public byte[] writeList() throws IOException {
+        return mapper.writeValueAsBytes(courses);
+    }
+
+    @Benchmark
+    public List<Course> readList() throws IOException {
+        return mapper.readValue(encodedList, COURSE_LIST);
+    }
+}
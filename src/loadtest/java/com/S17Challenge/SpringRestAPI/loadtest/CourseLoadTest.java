@@ -0,0 +1,268 @@
+package com.S17Challenge.SpringRestAPI.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Çalışan bir uygulamaya karşı yerel yük testi. Örnek:
+//      java -Dloadtest.threads=64 -cp <loadtest-classpath> com.S17Challenge.SpringRestAPI.loadtest.CourseLoadTest
+// Ayarlar için bkz. LoadTestConfig.
+//
+// 1) Katalog POST /courses/batch ile catalogSize kurs ile doldurulur.
+// 2) Her thread ısınma ve ölçüm süresi boyunca loadtest.mix oranlarına göre istek gönderir (kapalı döngü: bir yanıt
+//    gelmeden yeni istek gönderilmez). Gecikmeler işlem başına HdrHistogram ile kaydedilir.
+// 3) Testin eklediği kurslar silinir, böylece sonraki çalıştırma aynı katalogla başlar.
+// 4) Sonuçlar yazdırılır ve loadtest.results klasörüne kaydedilir. Baseline dosyası yoksa bu çalıştırma baseline olarak
+//    kaydedilir; varsa p99 ya da throughput tolerans dışına çıktığında program 1 koduyla biter.
+//
+// Kapalı döngü yük üreteci sunucu yavaşladığında daha az istek gönderir (coordinated omission), bu yüzden p99
+// gerçek kullanıcıların göreceğinden iyimser olabilir. Karşılaştırmalar her zaman aynı makine ve aynı ayarlarla yapılmalıdır.
+public final class CourseLoadTest {
+
+    private static final String[] NOTES = {"A", "B", "C", "D", "F"};
+    private static final int SEED_BATCH = 1000;
+
+    private final LoadTestConfig config;
+    private final HttpClient client;
+
+    private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+    private final AtomicInteger nextId;
+    private final Queue<Integer> created = new ConcurrentLinkedQueue<>();
+    private final Operation[] weightedOperations;
+
+    private volatile boolean measuring;
+
+    CourseLoadTest(LoadTestConfig config) {
+        this.config = config;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.nextId = new AtomicInteger(config.catalogSize());
+        for (Operation operation : Operation.values()) {
+            recorders.put(operation, new Recorder(3));
+            errors.put(operation, new LongAdder());
+        }
+
+        List<Operation> weighted = new ArrayList<>();
+        config.mix().forEach((operation, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                weighted.add(operation);
+            }
+        });
+        this.weightedOperations = weighted.toArray(new Operation[0]);
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        System.exit(new CourseLoadTest(config).run());
+    }
+
+    int run() throws Exception {
+        System.out.printf("Load test against %s (%s)%n", config.baseUrl(), config.profile());
+        seedCatalog();
+
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+
+        List<Thread> workers = new ArrayList<>(config.threads());
+        for (int i = 0; i < config.threads(); i++) {
+            Thread worker = new Thread(() -> work(end), "loadtest-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        while (System.nanoTime() < measureFrom) {
+            Thread.sleep(10);
+        }
+        // ısınma sırasında kaydedilenleri atıyoruz
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+        measuring = true;
+        long measureStart = System.nanoTime();
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        double seconds = (System.nanoTime() - measureStart) / 1e9;
+        measuring = false;
+
+        LoadTestResult result = LoadTestResult.of(config, seconds, histograms(), errorCounts());
+        cleanUp();
+
+        result.print(System.out);
+        Path resultFile = save(result);
+        System.out.println("Results written to " + resultFile);
+        return LoadTestResult.compareWithBaseline(config, result, System.out);
+    }
+
+    private void work(long end) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        while (System.nanoTime() < end) {
+            Operation operation = weightedOperations[random.nextInt(weightedOperations.length)];
+            Integer deleteId = null;
+            if (operation == Operation.DELETE) {
+                deleteId = created.poll();
+                if (deleteId == null) {
+                    operation = Operation.POST; // silinecek kurs yok, önce ekliyoruz
+                }
+            }
+
+            long startNanos = System.nanoTime();
+            boolean ok;
+            try {
+                ok = execute(operation, deleteId, random);
+            } catch (IOException exception) {
+                ok = false;
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long latency = System.nanoTime() - startNanos;
+
+            if (measuring) {
+                recorders.get(operation).recordValue(latency);
+                if (!ok) {
+                    errors.get(operation).increment();
+                }
+            }
+        }
+    }
+
+    private boolean execute(Operation operation, Integer deleteId, ThreadLocalRandom random)
+            throws IOException, InterruptedException {
+        switch (operation) {
+            case LIST -> {
+                return send(HttpRequest.newBuilder(uri("/courses")).GET()) == 200;
+            }
+            case GET -> {
+                String name = URLEncoder.encode(name(random.nextInt(config.catalogSize())), StandardCharsets.UTF_8)
+                        .replace("+", "%20");
+                return send(HttpRequest.newBuilder(uri("/courses/" + name)).GET()) == 200;
+            }
+            case POST -> {
+                int id = nextId.getAndIncrement();
+                boolean ok = send(HttpRequest.newBuilder(uri("/courses"))
+                        .header("Content-Type", "application/json")
+                        .POST(HttpRequest.BodyPublishers.ofString(courseJson(id, random)))) == 201;
+                if (ok) {
+                    created.add(id);
+                }
+                return ok;
+            }
+            case PUT -> {
+                int id = random.nextInt(config.catalogSize());
+                return send(HttpRequest.newBuilder(uri("/courses/" + id))
+                        .header("Content-Type", "application/json")
+                        .PUT(HttpRequest.BodyPublishers.ofString(courseJson(id, random)))) == 200;
+            }
+            case DELETE -> {
+                return send(HttpRequest.newBuilder(uri("/courses/" + deleteId)).DELETE()) == 200;
+            }
+            default -> throw new IllegalStateException("Unknown operation " + operation);
+        }
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        // gövde okunur ama saklanmaz, böylece gecikme tüm yanıtın gelmesini kapsar
+        return client.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private void seedCatalog() throws IOException, InterruptedException {
+        for (int from = 0; from < config.catalogSize(); from += SEED_BATCH) {
+            int to = Math.min(from + SEED_BATCH, config.catalogSize());
+            StringBuilder body = new StringBuilder("[");
+            for (int id = from; id < to; id++) {
+                if (id > from) {
+                    body.append(',');
+                }
+                body.append(courseJson(id, ThreadLocalRandom.current()));
+            }
+            body.append(']');
+            int status = send(HttpRequest.newBuilder(uri("/courses/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+            // 207: kursların bir kısmı önceki bir çalıştırmadan kalmış, sorun değil
+            if (status != 201 && status != 207) {
+                throw new IllegalStateException("Seeding the catalog failed with HTTP " + status);
+            }
+        }
+    }
+
+    // Testin eklediği ve silinmemiş kurslar ölçüm dışında silinir.
+    private void cleanUp() throws IOException, InterruptedException {
+        Integer id;
+        while ((id = created.poll()) != null) {
+            send(HttpRequest.newBuilder(uri("/courses/" + id)).DELETE());
+        }
+    }
+
+    private Map<Operation, Histogram> histograms() {
+        Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+        recorders.forEach((operation, recorder) -> histograms.put(operation, recorder.getIntervalHistogram()));
+        return histograms;
+    }
+
+    private Map<Operation, Long> errorCounts() {
+        Map<Operation, Long> counts = new EnumMap<>(Operation.class);
+        errors.forEach((operation, adder) -> counts.put(operation, adder.sum()));
+        return counts;
+    }
+
+    private Path save(LoadTestResult result) throws IOException {
+        Path directory = config.results();
+        Files.createDirectories(directory);
+        String stamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+        Path file = directory.resolve("result-" + stamp + ".properties");
+        result.write(file);
+        // HdrHistogram'ın yüzdelik dağılım çıktısı (.hgrm), HdrHistogram plotter ile çizilebilir
+        for (Map.Entry<Operation, Histogram> entry : result.histograms().entrySet()) {
+            if (entry.getValue().getTotalCount() == 0) {
+                continue;
+            }
+            Path hgrm = directory.resolve("result-" + stamp + "-" + entry.getKey().key() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(hgrm), false, StandardCharsets.UTF_8)) {
+                entry.getValue().outputPercentileDistribution(out, 1000.0); // mikrosaniye
+            }
+        }
+        return file;
+    }
+
+    private URI uri(String path) {
+        return URI.create(config.baseUrl() + path);
+    }
+
+    private static String name(int id) {
+        return "loadtest-" + id;
+    }
+
+    private static String courseJson(int id, ThreadLocalRandom random) {
+        return "{\"id\":" + id
+                + ",\"name\":\"" + name(id)
+                + "\",\"credit\":" + random.nextInt(5)
+                + ",\"grade\":{\"coefficient\":" + (1 + random.nextInt(4))
+                + ",\"note\":\"" + NOTES[random.nextInt(NOTES.length)] + "\"}}";
+    }
+}
@@ -0,0 +1,83 @@
+package com.S17Challenge.SpringRestAPI.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Yük testi ayarları. Hepsi -D sistem özellikleri ile değiştirilebilir:
+//      loadtest.baseUrl=http://localhost:9000/workintech  (uygulamanın adresi, context path dahil)
+//      loadtest.threads=32                         (eşzamanlı istemci sayısı)
+//      loadtest.catalogSize=10000                  (testten önce eklenen kurs sayısı)
+//      loadtest.warmupSeconds=10
+//      loadtest.durationSeconds=30
+//      loadtest.mix=list:5,get:65,post:10,put:15,delete:5
+//      loadtest.baseline=loadtest/baseline.properties
+//      loadtest.results=build/loadtest
+//      loadtest.p99Tolerance=0.20                  (p99 bu oranda kötüleşirse test başarısız)
+//      loadtest.throughputTolerance=0.10           (throughput bu oranda düşerse test başarısız)
+//      loadtest.maxErrorRate=0.01                  (beklenmeyen durum kodu oranı bunu aşarsa test başarısız)
+record LoadTestConfig(URI baseUrl, int threads, int catalogSize, Duration warmup, Duration duration,
+                      Map<Operation, Integer> mix, Path baseline, Path results,
+                      double p99Tolerance, double throughputTolerance, double maxErrorRate) {
+
+    LoadTestConfig {
+        if (threads < 1 || catalogSize < 1) {
+            throw new IllegalArgumentException("loadtest.threads and loadtest.catalogSize must be at least 1");
+        }
+    }
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                URI.create(stripSlash(System.getProperty("loadtest.baseUrl", "http://localhost:9000/workintech"))),
+                Integer.getInteger("loadtest.threads", 32),
+                Integer.getInteger("loadtest.catalogSize", 10_000),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmupSeconds", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.durationSeconds", 30)),
+                parseMix(System.getProperty("loadtest.mix", "list:5,get:65,post:10,put:15,delete:5")),
+                Path.of(System.getProperty("loadtest.baseline", "loadtest/baseline.properties")),
+                Path.of(System.getProperty("loadtest.results", "build/loadtest")),
+                Double.parseDouble(System.getProperty("loadtest.p99Tolerance", "0.20")),
+                Double.parseDouble(System.getProperty("loadtest.throughputTolerance", "0.10")),
+                Double.parseDouble(System.getProperty("loadtest.maxErrorRate", "0.01")));
+    }
+
+    // Baseline ile karşılaştırmanın anlamlı olması için aynı olması gereken ayarlar.
+    String profile() {
+        return "threads=" + threads + ",catalogSize=" + catalogSize + ",durationSeconds=" + duration.toSeconds() + ",mix=" + mixString();
+    }
+
+    String mixString() {
+        StringBuilder text = new StringBuilder();
+        mix.forEach((operation, weight) -> {
+            if (!text.isEmpty()) {
+                text.append(',');
+            }
+            text.append(operation.key()).append(':').append(weight);
+        });
+        return text.toString();
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] pair = part.trim().split(":");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Invalid loadtest.mix entry: " + part);
+            }
+            int weight = Integer.parseInt(pair[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.fromKey(pair[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("loadtest.mix must contain at least one operation");
+        }
+        return weights;
+    }
+
+    private static String stripSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
@@ -0,0 +1,130 @@
+package com.S17Challenge.SpringRestAPI.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+
+// Bir yük testi çalıştırmasının sonucu ve baseline ile karşılaştırması.
+// Dosya formatı düz bir properties dosyasıdır, böylece baseline elle okunabilir ve git'te farkları görülebilir.
+// Gecikmeler mikrosaniye, throughput istek/saniye olarak yazılır.
+record LoadTestResult(String profile, double seconds, Map<Operation, Histogram> histograms, Map<Operation, Long> errors) {
+
+    static final int EXIT_OK = 0;
+    static final int EXIT_REGRESSION = 1;
+    static final int EXIT_INCOMPARABLE = 2;
+
+    static LoadTestResult of(LoadTestConfig config, double seconds, Map<Operation, Histogram> histograms,
+                             Map<Operation, Long> errors) {
+        return new LoadTestResult(config.profile(), seconds, histograms, errors);
+    }
+
+    long totalCount() {
+        return histograms.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    double throughput() {
+        return totalCount() / seconds;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%-8s %10s %10s %10s %10s %10s %10s %8s%n", "op", "count", "p50 us", "p90 us", "p99 us", "p99.9 us", "max us", "errors");
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() == 0) {
+                return;
+            }
+            out.printf("%-8s %10d %10d %10d %10d %10d %10d %8d%n", operation.key(), histogram.getTotalCount(),
+                    micros(histogram.getValueAtPercentile(50)), micros(histogram.getValueAtPercentile(90)),
+                    micros(histogram.getValueAtPercentile(99)), micros(histogram.getValueAtPercentile(99.9)),
+                    micros(histogram.getMaxValue()), errors.get(operation));
+        });
+        out.printf("throughput: %.1f req/s over %.1f s, errors: %d%n", throughput(), seconds, totalErrors());
+    }
+
+    void write(Path file) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty("profile", profile);
+        properties.setProperty("throughput", String.format(Locale.ROOT, "%.1f", throughput()));
+        histograms.forEach((operation, histogram) -> {
+            if (histogram.getTotalCount() > 0) {
+                properties.setProperty(operation.key() + ".count", Long.toString(histogram.getTotalCount()));
+                properties.setProperty(operation.key() + ".p99Micros", Long.toString(micros(histogram.getValueAtPercentile(99))));
+            }
+        });
+        try (Writer writer = Files.newBufferedWriter(file)) {
+            properties.store(writer, "Course API load test result");
+        }
+    }
+
+    // Baseline yoksa bu sonuç baseline olarak kaydedilir. Varsa aynı profil (thread sayısı, katalog boyutu, süre, oranlar)
+    // ile karşılaştırılır; p99'u toleranstan fazla artan işlem ya da toleranstan fazla düşen throughput başarısızlıktır.
+    static int compareWithBaseline(LoadTestConfig config, LoadTestResult result, PrintStream out) throws IOException {
+        double errorRate = result.totalCount() == 0 ? 1.0 : (double) result.totalErrors() / result.totalCount();
+        if (errorRate > config.maxErrorRate()) {
+            out.printf("FAILED: error rate %.2f%% is above %.2f%%; latencies are not comparable%n",
+                    errorRate * 100, config.maxErrorRate() * 100);
+            return EXIT_REGRESSION;
+        }
+
+        Path baselineFile = config.baseline();
+        if (!Files.exists(baselineFile)) {
+            if (baselineFile.getParent() != null) {
+                Files.createDirectories(baselineFile.getParent());
+            }
+            result.write(baselineFile);
+            out.println("No baseline found, this run was recorded as the baseline: " + baselineFile);
+            return EXIT_OK;
+        }
+
+        Properties baseline = new Properties();
+        try (Reader reader = Files.newBufferedReader(baselineFile)) {
+            baseline.load(reader);
+        }
+        if (!result.profile().equals(baseline.getProperty("profile"))) {
+            out.printf("Baseline %s was recorded with a different profile (%s), not comparing%n",
+                    baselineFile, baseline.getProperty("profile"));
+            return EXIT_INCOMPARABLE;
+        }
+
+        List<String> regressions = new ArrayList<>();
+        double baselineThroughput = Double.parseDouble(baseline.getProperty("throughput"));
+        if (result.throughput() < baselineThroughput * (1 - config.throughputTolerance())) {
+            regressions.add(String.format(Locale.ROOT, "throughput %.1f req/s < baseline %.1f req/s", result.throughput(), baselineThroughput));
+        }
+        result.histograms().forEach((operation, histogram) -> {
+            String recorded = baseline.getProperty(operation.key() + ".p99Micros");
+            if (recorded == null || histogram.getTotalCount() == 0) {
+                return;
+            }
+            long p99 = micros(histogram.getValueAtPercentile(99));
+            long baselineP99 = Long.parseLong(recorded);
+            if (p99 > baselineP99 * (1 + config.p99Tolerance())) {
+                regressions.add(String.format(Locale.ROOT, "%s p99 %d us > baseline %d us", operation.key(), p99, baselineP99));
+            }
+        });
+
+        if (regressions.isEmpty()) {
+            out.println("OK: no regression against baseline " + baselineFile);
+            return EXIT_OK;
+        }
+        regressions.forEach(regression -> out.println("REGRESSION: " + regression));
+        return EXIT_REGRESSION;
+    }
+
+    private static long micros(long nanos) {
+        return nanos / 1000;
+    }
+}
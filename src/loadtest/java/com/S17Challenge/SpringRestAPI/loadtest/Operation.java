@@ -0,0 +1,29 @@
+package com.S17Challenge.SpringRestAPI.loadtest;
+
+// Yük testinde kullanılan istek türleri. key, loadtest.mix ayarında ve sonuç dosyalarında kullanılır.
+enum Operation {
+    LIST("list"),      // GET /courses
+    GET("get"),        // GET /courses/{name}
+    POST("post"),      // POST /courses
+    PUT("put"),        // PUT /courses/{id}
+    DELETE("delete");  // DELETE /courses/{id}
+
+    private final String key;
+
+    Operation(String key) {
+        this.key = key;
+    }
+
+    String key() {
+        return key;
+    }
+
+    static Operation fromKey(String key) {
+        for (Operation operation : values()) {
+            if (operation.key.equals(key)) {
+                return operation;
+            }
+        }
+        throw new IllegalArgumentException("Unknown load test operation: " + key);
+    }
+}
@@ -0,0 +1,144 @@
+package com.S17Challenge.SpringRestAPI.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Uygulamanın açılış süresini (time-to-first-request) ve bellek kullanımını (RSS) ölçer. Argümanlar uygulamayı başlatan
+// komuttur; farklı başlatma modları (JVM, AOT, CDS, native) aynı komutla karşılaştırılır. Örnek:
+//      java -cp <loadtest-classpath> com.S17Challenge.SpringRestAPI.loadtest.StartupProbe java -jar app.jar
+// Ayarlar:
+//      startup.url=http://localhost:9000/workintech/courses   (200 dönmesi beklenen adres)
+//      startup.runs=5                                          (ölçüm tekrarı, sonuçların ortancası yazdırılır)
+//      startup.timeoutSeconds=60
+//      startup.warmRequests=1000                               (ilk yanıttan sonra RSS'i tekrar ölçmeden önceki istek sayısı)
+// Süre, süreç başlatıldığı andan ilk 200 yanıtına kadardır; JVM açılışı, Spring context'i ve ilk isteğin işlenmesi dahildir.
+// RSS /proc/<pid>/status dosyasından okunur, bu yüzden sadece Linux'ta ölçülür.
+public final class StartupProbe {
+
+    private static final long POLL_MILLIS = 5;
+
+    private final List<String> command;
+    private final URI url;
+    private final Duration timeout;
+    private final int warmRequests;
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    StartupProbe(List<String> command, URI url, Duration timeout, int warmRequests) {
+        this.command = command;
+        this.url = url;
+        this.timeout = timeout;
+        this.warmRequests = warmRequests;
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: StartupProbe <command to start the application>");
+            System.exit(2);
+        }
+        StartupProbe probe = new StartupProbe(List.of(args),
+                URI.create(System.getProperty("startup.url", "http://localhost:9000/workintech/courses")),
+                Duration.ofSeconds(Integer.getInteger("startup.timeoutSeconds", 60)),
+                Integer.getInteger("startup.warmRequests", 1000));
+        int runs = Integer.getInteger("startup.runs", 5);
+        if (runs < 1) {
+            throw new IllegalArgumentException("startup.runs must be at least 1");
+        }
+
+        long[] firstRequestMillis = new long[runs];
+        long[] firstRssKb = new long[runs];
+        long[] warmRssKb = new long[runs];
+        for (int run = 0; run < runs; run++) {
+            Measurement measurement = probe.measure();
+            firstRequestMillis[run] = measurement.firstRequestMillis();
+            firstRssKb[run] = measurement.firstRssKb();
+            warmRssKb[run] = measurement.warmRssKb();
+            System.out.printf("run %d: first request %d ms, RSS %s, RSS after %d requests %s%n", run + 1,
+                    measurement.firstRequestMillis(), mb(measurement.firstRssKb()), probe.warmRequests,
+                    mb(measurement.warmRssKb()));
+        }
+        System.out.printf("median of %d runs: first request %d ms, RSS %s, RSS after %d requests %s%n", runs,
+                median(firstRequestMillis), mb(median(firstRssKb)), probe.warmRequests, mb(median(warmRssKb)));
+    }
+
+    record Measurement(long firstRequestMillis, long firstRssKb, long warmRssKb) {
+    }
+
+    Measurement measure() throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + timeout.toNanos();
+            while (!respondsOk()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue());
+                }
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("No 200 response from " + url + " within " + timeout);
+                }
+                Thread.sleep(POLL_MILLIS);
+            }
+            long firstRequestMillis = (System.nanoTime() - start) / 1_000_000;
+            long firstRssKb = rssKb(process.pid());
+
+            for (int i = 0; i < warmRequests; i++) {
+                respondsOk();
+            }
+            return new Measurement(firstRequestMillis, firstRssKb, rssKb(process.pid()));
+        } finally {
+            process.destroy();
+            if (!process.waitFor(timeout.toSeconds(), TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private boolean respondsOk() throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(url).timeout(Duration.ofSeconds(5)).GET().build();
+            return client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException exception) {
+            return false; // henüz dinlemiyor
+        }
+    }
+
+    // Sürecin o anki RSS değeri (kB). Linux dışında ya da okunamazsa -1 döner.
+    // Not: komut bir kabuk betiği ise (ör. ./mvnw spring-boot:run) ölçülen süreç betiğin kendisidir, uygulama değil.
+    static long rssKb(long pid) {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        try {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.substring("VmRSS:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException exception) {
+            // bu platformda ölçülemiyor
+        }
+        return -1;
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static String mb(long kilobytes) {
+        return kilobytes < 0 ? "n/a" : (kilobytes / 1024) + " MB";
+    }
+}
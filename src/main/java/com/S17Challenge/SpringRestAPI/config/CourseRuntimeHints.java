@@ -0,0 +1,29 @@
+package com.S17Challenge.SpringRestAPI.config;
+
+import com.S17Challenge.SpringRestAPI.entity.ApiResponse;
+import com.S17Challenge.SpringRestAPI.entity.BatchItemResult;
+import com.S17Challenge.SpringRestAPI.entity.BatchResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseEvent;
+import com.S17Challenge.SpringRestAPI.entity.CoursePage;
+import com.S17Challenge.SpringRestAPI.entity.CourseStats;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.entity.TierStats;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+// GraalVM native-image için Jackson'ın reflection ile okuduğu/yazdığı DTO'lar.
+// Spring AOT, @RestController metodlarının parametre ve dönüş tiplerini kendisi kaydeder; ama bu tiplerin bir kısmı
+// ObjectMapper ile doğrudan yazılır (CourseResponseCache, CourseWriteAdmissionFilter, SSE olayları, reactive handler'lar)
+// ve AOT tarafından görülmez. META-INF/spring/aot.factories ile kaydedilir; normal JVM çalışmasında hiçbir etkisi yoktur.
+public class CourseRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(),
+                Course.class, Grade.class, ApiResponse.class, CoursePage.class, BatchResponse.class,
+                BatchItemResult.class, CourseStats.class, TierStats.class, CourseEvent.class, ApiErrorResponse.class);
+    }
+}
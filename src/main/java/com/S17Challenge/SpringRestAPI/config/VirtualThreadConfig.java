@@ -0,0 +1,38 @@
+package com.S17Challenge.SpringRestAPI.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import java.util.concurrent.Executors;
+
+// İsteğe bağlı çalışma modu: Tomcat istekleri sabit boyutlu platform thread havuzu yerine
+// her istek için yeni bir Java 21 virtual thread üzerinde çalıştırır.
+// Kalıcılık açıkken (course.persistence.enabled=true) istekler diske yazılmayı beklerken
+// taşıyıcı (carrier) thread'i bırakır, böylece eşzamanlı istek sayısı havuz boyutuyla sınırlı kalmaz.
+// Açmak için application.properties içinde:
+//      course.execution.virtual-threads=true
+// Yazma yolunda bekleme yapan her yer java.util.concurrent kilitlerini kullanır: kursun yazma kilidi (ReentrantLock),
+// log kuyruğu ve group commit future'ı. Log kaydı, kuyruğa ekleme ve dinleyici bildirimleri ConcurrentHashMap.compute
+// içinde yapılmaz. Yolda kalan tek monitor kilitleri ConcurrentHashMap'in tek bir put/remove süresince tuttuğu iç
+// kilitleridir; bu sürede hiçbir şey beklenmez. Kontrol etmek için -Djdk.tracePinnedThreads=full ile çalıştırıp
+// loglarda pinned thread olmadığına bakılabilir.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "course.execution.virtual-threads", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadProtocolHandlerCustomizer() {
+        return protocolHandler -> protocolHandler.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // StreamingResponseBody gibi async istekler de virtual thread üzerinde çalışsın.
+    @Bean(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(Executors.newVirtualThreadPerTaskExecutor());
+    }
+}
@@ -0,0 +1,21 @@
+package com.S17Challenge.SpringRestAPI.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+// JSON'a ek olarak ikili CBOR formatını (application/cbor) destekler.
+// Servisler arası trafikte istemci "Accept: application/cbor" ve "Content-Type: application/cbor" gönderirse
+// istek gövdeleri (addCourse, updateCourse, toplu ekleme) ve yanıtlar CBOR olarak okunur/yazılır.
+// CBOR mapper, Spring Boot'un JSON için kullandığı ayarlarla (modüller, özellikler) aynı builder'dan üretilir.
+// Spring Boot, HttpMessageConverter türündeki bean'leri otomatik olarak MVC'ye ekler.
+@Configuration(proxyBeanMethods = false)
+public class WireFormatConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -1,60 +1,181 @@
 package com.S17Challenge.SpringRestAPI.controller;
 
 import com.S17Challenge.SpringRestAPI.entity.ApiResponse;
+import com.S17Challenge.SpringRestAPI.entity.BatchResponse;
 import com.S17Challenge.SpringRestAPI.entity.Course;
-import com.S17Challenge.SpringRestAPI.entity.CourseGpa;
-import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.entity.CoursePage;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.CourseStats;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrors;
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.service.CourseBatchService;
+import com.S17Challenge.SpringRestAPI.service.CourseResponseCache;
+import com.S17Challenge.SpringRestAPI.service.CourseSearchIndex;
+import com.S17Challenge.SpringRestAPI.service.CourseStatistics;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
+import com.S17Challenge.SpringRestAPI.service.WireFormat;
 import com.S17Challenge.SpringRestAPI.validation.CourseValidation;
-import jakarta.annotation.PostConstruct;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 
+// Servlet (Spring MVC) API'si. Uygulama reactive modda çalışıyorsa bunun yerine CourseRouter/CourseHandler kullanılır.
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController // Restful web hizmeti veriyor. HTTP isteklerini dinler, alır ve işler. JSON gibi veri formatlarını alıp işler.
 @RequestMapping("/courses") // ana endpoint - url ' i belirliyoruz.
 public class CourseController {
 
-    private List<Course> courses; // course listelerini tutmak için bir liste belirliyoruz.
+    // Kursları tutan eşzamanlı depo. id ve isim indeksleri sayesinde listeyi taramadan arama yapar.
+    private final CourseRepository courses;
 
-    // courseGPA arayüzünü implement eden üç yapı vardır. Bunlar: lowCourseGpa, mediumCourseGpa, highCourseGpa
-    // Bu üç nesne dependency injection(bağımlılık enjeksiyonu) yöntemiyle bu sınıfa enjekte ediliyor.
-    private final CourseGpa lowCourseGpa;
-    private final CourseGpa mediumCourseGpa;
-    private final CourseGpa highCourseGpa;
+    // courseGPA arayüzünü implement eden lowCourseGpa, mediumCourseGpa, highCourseGpa bean'leri GpaCalculator içinde
+    // krediye göre bir tabloya dönüştürülür. Controller sadece hesaplayıcıyı kullanır, hangi seviyenin seçileceğini bilmez.
+    private final GpaCalculator gpaCalculator;
+
+    // Ekleme, güncelleme ve silmede artımlı güncellenen katalog istatistikleri.
+    private final CourseStatistics courseStatistics;
+
+    // İsim araması (önek ve bulanık) için bellekteki indeksler.
+    private final CourseSearchIndex courseSearchIndex;
+
+    // GET isteklerinin JSON'a çevrilmiş hallerini ve ETag'lerini tutar.
+    private final CourseResponseCache responseCache;
+
+    // GPA seviyesi ve toplu eklemedeki doğrulama hataları için sayaçlar.
+    private final CourseMetrics courseMetrics;
+
+    // Toplu ekleme (POST /courses/batch) kuralları.
+    private final CourseBatchService courseBatchService;
+
+    // Akış (streaming) modunda kursları tek tek JSON'a çevirmek için kullanılır.
+    private final ObjectMapper objectMapper;
 
     // Bu yapı courseController sınıfının construtor'ı yani yapıcı fonksiyonudur.
-    // courseController nesnesi oluşturulurken lowCourseGpa,mediumCourseGpa,highCourseGpa nesneleri dışarıdan parametre olarak alınır ve sınıfın ilgili değişkenlerine atanır.
-    // dışarıdan enjekte edilen lowCourseGpa  sınıfın içindeki this.lowCouseGpa ya atanır.
-    public CourseController(CourseGpa lowCourseGpa, CourseGpa mediumCourseGpa, CourseGpa highCourseGpa) {
-        this.lowCourseGpa = lowCourseGpa;
-        this.mediumCourseGpa = mediumCourseGpa;
-        this.highCourseGpa = highCourseGpa;
+    // courseController nesnesi oluşturulurken depo, gpa hesaplayıcı, istatistikler, arama indeksi, yanıt önbelleği, metrikler, toplu ekleme servisi ve objectMapper dışarıdan parametre olarak alınır ve sınıfın ilgili değişkenlerine atanır.
+    public CourseController(CourseRepository courses, GpaCalculator gpaCalculator, CourseStatistics courseStatistics,
+                            CourseSearchIndex courseSearchIndex, CourseResponseCache responseCache, CourseMetrics courseMetrics,
+                            CourseBatchService courseBatchService, ObjectMapper objectMapper) {
+        this.courses = courses;
+        this.gpaCalculator = gpaCalculator;
+        this.courseStatistics = courseStatistics;
+        this.courseSearchIndex = courseSearchIndex;
+        this.responseCache = responseCache;
+        this.courseMetrics = courseMetrics;
+        this.courseBatchService = courseBatchService;
+        this.objectMapper = objectMapper;
+    }
+
+    // Liste, katalog değişmediği sürece önceden JSON'a çevrilmiş haliyle döner.
+    // İstemci son aldığı ETag'i If-None-Match başlığında gönderirse ve katalog değişmediyse 304 (Not Modified) döner,
+    // bu durumda önbellekteki liste kullanılır, JSON'a yeniden çevrilmez.
+    // checkNotModified true dönerse Spring yanıtı 304 olarak tamamlar, bu yüzden null dönüyoruz.
+    // Accept başlığı application/cbor ise yanıt CBOR formatında döner (bkz. WireFormatConfig).
+    @GetMapping
+    public ResponseEntity<byte[]> getAll(WebRequest request){
+        WireFormat format = WireFormat.fromAccept(request.getHeader(HttpHeaders.ACCEPT));
+        long version = courses.version();
+        CourseResponseCache.CachedResponse cached = responseCache.allCourses(version, courses::findAll, courses::unchangedSince, format);
+        if (cached.etag() == null) {
+            // liste okunurken katalog değişti, bu gövde bir sürüme ait olmadığı için ETag'siz dönüyor.
+            return ResponseEntity.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(format.getMediaType())
+                    .body(cached.body());
+        }
+        if (request.checkNotModified(cached.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(cached.body());
     }
 
-    // Bu sınıfın nesnesi ilk kez oluşturulduğunda bu method otomatik olarak çalıştırılacaktır.
-    // Eğer elimizdeki sınıfın içinde bir liste var ise onu başlatmak için "postContstruct" anatasyonu kullanmamız şart yoksa "NullPointerException" hatası alırız
-    @PostConstruct
-    public void init(){
+    // Keyset (cursor) sayfalama: kurslar id sırasıyla döner.
+    // İlk sayfa için "after" verilmez, sonraki sayfalar için bir önceki yanıttaki nextCursor gönderilir.
+    // Örnek: [GET]/workintech/courses/page?after=120&size=50
+    @GetMapping("/page")
+    public CoursePage getPage(@RequestParam(value = "after", required = false) Integer after,
+                              @RequestParam(value = "size", defaultValue = "50") int size) {
+        CourseValidation.checkPageSize(size); // sayfa boyutunu kontrol ediyoruz.
+
+        List<Course> page = courses.findPage(after, size);
+        Integer nextCursor = page.size() < size ? null : page.get(page.size() - 1).getId();
+        return new CoursePage(page, nextCursor);
+    }
 
-        this.courses = new ArrayList<>();
+    // Katalog geneli istatistikler: kurs sayısı, toplam/ortalama totalGpa, kredi ve not bazında dağılım.
+    // Değerler yazma sırasında güncellendiği için bu istek kursları taramaz.
+    @GetMapping("/stats")
+    public CourseStats getStats() {
+        return courseStatistics.snapshot();
     }
 
-    @GetMapping
-    public List<Course> getAll(){
+    // Ders adına göre arama. Varsayılan olarak isim "q" ile başlayan dersler döner (type-ahead).
+    // fuzzy=true ile yazım hatalarına toleranslı trigram araması yapılır (course.search.ngram.enabled=true olmalı).
+    // Örnek: [GET]/workintech/courses/search?q=sprng&fuzzy=true&limit=5
+    @GetMapping("/search")
+    public List<Course> search(@RequestParam("q") String query,
+                               @RequestParam(value = "limit", defaultValue = "10") int limit,
+                               @RequestParam(value = "fuzzy", defaultValue = "false") boolean fuzzy) {
+        CourseValidation.checkSearch(query, limit); // sorgu ve limit kontrolü
+
+        if (!fuzzy) {
+            return courseSearchIndex.searchPrefix(query, limit);
+        }
+        if (!courseSearchIndex.isFuzzyEnabled()) {
+            throw ApiErrors.FUZZY_SEARCH_DISABLED;
+        }
+        return courseSearchIndex.searchFuzzy(query, limit);
+    }
 
-        return this.courses;
+    // Tüm kataloğu NDJSON (her satırda bir JSON kurs) olarak akıtır.
+    // Liste bellekte toplanmadan kurslar gezildikçe yanıta yazılır, böylece istek başına bellek kullanımı sabit kalır.
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream -> {
+            // her kurstan sonra flush yapmasın, flush aralığını biz belirliyoruz.
+            ObjectWriter writer = objectMapper.writerFor(Course.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(new SerializedString("\n"));
+                Iterator<Course> iterator = courses.streamOrderedAfter(null).iterator();
+                int written = 0;
+                while (iterator.hasNext()) {
+                    writer.writeValue(generator, iterator.next());
+                    if (++written % 256 == 0) {
+                        generator.flush(); // tampon büyümesin diye belli aralıklarla istemciye gönderiyoruz.
+                    }
+                }
+                if (written > 0) {
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
     }
 
 
     // name kısmı dinamik bir yapı, istekle gelen dersin adı olur.
     // @PathVariable("name") String name yapısı {name} den alınan değeri "name" e aktarır.
-    // courses.stream().filter(c -> c.getName() ---> liste içindeki derslerin adlarını istekle gelen "name" değişkeni ile karşılaştırır.
-    // equalsIgnoreCase(name) --> karşılaştırmada büyük/ küçük harf duyarsız şekilde yapar.
-    //find.first() --> eşleşen ilk dersi döner. Optional<courses> türünde sonuç döner.
+    // courses.findByName(name) ---> isim indeksinden büyük/küçük harf duyarsız şekilde dersi bulur. Listeyi taramaz.
     // Eğer ders bulamaz ise Optional.empty() döner.
 
     // PathVariable url den veri almak için kullnılır.
@@ -64,17 +185,26 @@ public class CourseController {
     // ResponseEntity yapısını HTTP yanıtlarını ve veriyi dönmesi için kullanırız.
     // Optional<Course> kullanma sebebimiz bir değer olup olmadığını güvenli bir şekilde dönmek için kullanırız ve null döndürme durumlarının önüne geçer.
     @GetMapping("/{name}")
-    public ResponseEntity<Course> getCourseByName(@PathVariable("name") String name) {
-        Optional<Course> course = courses.stream()
-                .filter(c -> c.getName().equalsIgnoreCase(name))
-                .findFirst();
+    // Yanıt da liste gibi ETag ile döner; kurs değişmediyse önbellekteki JSON kullanılır ve If-None-Match eşleşirse 304 döner.
+    public ResponseEntity<byte[]> getCourseByName(@PathVariable("name") String name, WebRequest request) {
+        // DTO üretmeden depodaki kaydı alıyoruz; önbellekteki yanıt hâlâ geçerliyse hiç nesne üretilmez.
+        Optional<CourseRecord> course = courses.findRecordByName(name);
 
         if (course.isEmpty()) {
             // Burada ApiExceptions fırlatıyoruz.
-            throw new ApiExceptions("Course not found", HttpStatus.NOT_FOUND);
+            throw ApiErrors.COURSE_NOT_FOUND;
         }
 
-        return ResponseEntity.ok(course.get());
+        WireFormat format = WireFormat.fromAccept(request.getHeader(HttpHeaders.ACCEPT));
+        CourseResponseCache.CachedResponse cached = responseCache.course(course.get(), courses::isCurrent, format);
+        if (request.checkNotModified(cached.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(cached.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .body(cached.body());
     }
 
 
@@ -88,70 +218,78 @@ public class CourseController {
         // Validation işlemleri
         CourseValidation.checkName(course.getName()); // kurs adını kontrol ediyoruz.
         CourseValidation.checkCredit(course.getCredit()); // kredi değerini kontrol ediyoruz.
+        CourseValidation.checkGrade(course.getGrade()); // totalGpa için not ve katsayı zorunlu.
+        CourseValidation.checkId(course.getId()); // depo id'ye göre indekslendiği için id de zorunlu.
 
-        // Aynı isimde kurs eklememek için alttaki yapıyı kurduk.
-        boolean courseExists = courses.stream()
-                .anyMatch(c ->c.getName().equalsIgnoreCase(course.getName()));
-
-        if (courseExists){
-            return ResponseEntity.badRequest().body(null); // course zaten var
-        }
         if (course.getCredit() < 0 || course.getCredit() > 4){
             return ResponseEntity.badRequest().body(null); // geçersiz kredi değeri
         }
 
 
-        int totalGpa;
-        if (course.getCredit() <=2){
-            totalGpa = course.getGrade().getCoefficient()* course.getCredit() * lowCourseGpa.getGpa();
-        } else if (course.getCredit() == 3) {
-            totalGpa = course.getGrade().getCoefficient() * course.getCredit() * mediumCourseGpa.getGpa();
-        } else {
-            totalGpa = course.getGrade().getCoefficient()*course.getCredit()* highCourseGpa.getGpa();
-        }
+        int totalGpa = gpaCalculator.totalGpa(course);
 
-        courses.add(course);
+        // Aynı isimde (ya da aynı id'de) kurs eklememek için depo kontrolü tek adımda yapar.
+        if (!courses.add(course)){
+            return ResponseEntity.badRequest().body(null); // course zaten var
+        }
+        courseMetrics.recordGpaTier(course.getCredit()); // sadece eklenen kurslar sayılır
 
         ApiResponse response = new ApiResponse(course,totalGpa);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    // Bir dönemin tüm derslerini tek istekte eklemek için kullanılır (kurallar için bkz. CourseBatchService).
+    // Hatalı kurslar diğerlerinin eklenmesini engellemez. Hepsi eklenirse 201, bazıları hatalıysa 207 döner.
+    @PostMapping("/batch")
+    public ResponseEntity<BatchResponse> addCourses(@RequestBody List<Course> batch) {
+        BatchResponse response = courseBatchService.addAll(batch);
+        return ResponseEntity.status(CourseBatchService.status(response)).body(response);
+    }
+
+    // Güncelleme atomiktir: kurs yeni sürümlü bir kayıt ile tek seferde değiştirilir, yarım güncellenmiş kurs görülmez.
+    // If-Match başlığı ile GET /courses/{name} yanıtındaki ETag gönderilirse kurs sadece o sürümdeyse güncellenir;
+    // arada başka bir istek kursu değiştirdiyse 412 (Precondition Failed) döner ve istemci kursu tekrar okuyup yeniden dener.
+    // If-Match gönderilmezse son yazan kazanır (eski davranış).
     @PutMapping("/{id}")
-    ResponseEntity<Course> updateCourse(@PathVariable("id") Integer id,@RequestBody Course newCourse){
+    ResponseEntity<Course> updateCourse(@PathVariable("id") Integer id, @RequestBody Course newCourse,
+                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept){
         // Validation işlemleri
 
         CourseValidation.checkId(id); // güncellenecek dersin id'si ni kontrol eder.
         CourseValidation.checkName(newCourse.getName());  // yeni kurs adı kontrolü yapar.
         CourseValidation.checkCredit(newCourse.getCredit()); // yeni kredi değeri kontrol eder.
-
-        Optional<Course> existingCourse = courses.stream()
-                .filter(c -> c.getId().equals(id))
-                .findFirst();
-
-        if (existingCourse.isEmpty()){
-            return ResponseEntity.notFound().build(); // Course bulunamadı.
-        }
+        CourseValidation.checkGrade(newCourse.getGrade()); // yeni not ve katsayıyı kontrol eder.
 
         if (newCourse.getCredit() < 0 || newCourse.getCredit() > 4){
             return ResponseEntity.badRequest().body(null);
         }
 
         // totalGpa hesaplama
-        int totalGpa;
-        if (newCourse.getCredit() <= 2) {
-            totalGpa = newCourse.getGrade().getCoefficient() * newCourse.getCredit() * lowCourseGpa.getGpa();
-        } else if (newCourse.getCredit() == 3) {
-            totalGpa = newCourse.getGrade().getCoefficient() * newCourse.getCredit() * mediumCourseGpa.getGpa();
-        } else {
-            totalGpa = newCourse.getGrade().getCoefficient() * newCourse.getCredit() * highCourseGpa.getGpa();
-        }
+        int totalGpa = gpaCalculator.totalGpa(newCourse);
 
-        existingCourse.get().setName(newCourse.getName());
-        existingCourse.get().setCredit(newCourse.getCredit());
-        existingCourse.get().setGrade(newCourse.getGrade());
+        // "*" herhangi bir sürüm demektir, sadece kursun var olması yeterlidir.
+        long[] expectedVersions = ifMatch == null || ifMatch.trim().equals("*") ? null : responseCache.versionsOf(ifMatch);
 
-        ApiResponse response = new ApiResponse(existingCourse.get(),totalGpa);
-        return ResponseEntity.ok(response.getCourse());
+        CourseRepository.UpdateOutcome outcome = courses.update(id, newCourse, expectedVersions);
+        CourseRepository.UpdateResult result = outcome.result();
+        if (result == CourseRepository.UpdateResult.NOT_FOUND){
+            return ResponseEntity.notFound().build(); // Course bulunamadı.
+        }
+        if (result == CourseRepository.UpdateResult.NAME_TAKEN){
+            return ResponseEntity.badRequest().body(null); // yeni isim başka bir kursa ait
+        }
+        if (result == CourseRepository.UpdateResult.VERSION_MISMATCH){
+            throw ApiErrors.COURSE_VERSION_MISMATCH; // kurs If-Match ile gönderilen sürümden sonra değişmiş.
+        }
+        courseMetrics.recordGpaTier(newCourse.getCredit());
+
+        // Yeni ETag, istemcinin bir sonraki güncellemede If-Match ile göndermesi için yanıtta döner.
+        // Yanıt bu isteğin yazdığı kayıttan üretilir; arada başka bir güncelleme olsa bile ETag bu gövdeye aittir.
+        CourseRecord updatedCourse = outcome.course();
+        String etag = responseCache.courseEtag(updatedCourse, WireFormat.fromAccept(accept));
+        ApiResponse response = new ApiResponse(updatedCourse.toCourse(),totalGpa);
+        return ResponseEntity.ok().eTag(etag).body(response.getCourse());
     }
 
     // build boş yanıt gövdesidir. Sadece HTTP durum kodu döner, veri döndürmez.
@@ -161,7 +299,7 @@ public class CourseController {
 
         CourseValidation.checkId(id); // Silinecek kursun id'si ni kontrol ediyor.
 
-        boolean removed = courses.removeIf(c -> c.getId().equals(id));
+        boolean removed = courses.deleteById(id).isPresent();
 
         if (removed){
             return ResponseEntity.ok().build();
@@ -0,0 +1,128 @@
+package com.S17Challenge.SpringRestAPI.controller;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseEvent;
+import com.S17Challenge.SpringRestAPI.service.CourseEventLog;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// Kurs değişikliklerini Server-Sent Events (SSE) olarak yayınlar. GET /courses'u sürekli yoklamak yerine
+// istemci bir kez bağlanır ve her ekleme/güncelleme/silmeyi olay olarak alır. Örnek:
+//      curl -N http://localhost:9000/workintech/courses/events
+// Kaldığı yerden devam etmek için son alınan olayın id'si Last-Event-ID başlığında (tarayıcılar bunu otomatik yapar)
+// ya da sıra numarası "from" parametresinde gönderilir. İkisi de yoksa sadece yeni olaylar gelir.
+// İstenen olaylar artık halkada yoksa ya da abone çok geride kaldıysa "reset" olayı gönderilip bağlantı kapatılır;
+// istemci kataloğu yeniden okur ve reset olayındaki sıra numarasından tekrar bağlanır.
+// Her abone kendi virtual thread'inde halkayı okur; yavaş bir abone sadece kendi thread'ini bekletir,
+// yazan istekleri ve diğer aboneleri hiçbir zaman bekletmez.
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping("/courses")
+public class CourseEventController {
+
+    // Tek seferde halkadan okunan en fazla olay sayısı.
+    private static final int SEND_BATCH = 256;
+    // Olay olmadığında bağlantının hâlâ açık olup olmadığını anlamak için gönderilen yorum satırının aralığı.
+    private static final long HEARTBEAT_MILLIS = 15_000;
+
+    private final CourseEventLog eventLog;
+    private final long pollMillis;
+    private final ExecutorService subscribers = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("course-events-", 0).factory());
+
+    public CourseEventController(CourseEventLog eventLog, @Value("${course.events.poll-interval-ms:100}") long pollMillis) {
+        this.eventLog = eventLog;
+        this.pollMillis = pollMillis;
+    }
+
+    @GetMapping(value = "/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+                             @RequestParam(value = "from", required = false) Long from) {
+        long start;
+        if (from != null) {
+            start = from;
+        } else if (lastEventId != null) {
+            start = eventLog.sequenceOf(lastEventId);
+        } else {
+            start = eventLog.latestSequence();
+        }
+
+        SseEmitter emitter = new SseEmitter(0L); // zaman aşımı yok, kopan bağlantılar heartbeat ile anlaşılır
+        Subscription subscription = new Subscription(emitter, start);
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        subscribers.execute(subscription);
+        return emitter;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.shutdownNow();
+    }
+
+    private final class Subscription implements Runnable {
+
+        private final SseEmitter emitter;
+        private long cursor;
+        private volatile boolean closed;
+
+        private Subscription(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void close() {
+            closed = true;
+        }
+
+        @Override
+        public void run() {
+            long lastSent = System.currentTimeMillis();
+            try {
+                while (!closed) {
+                    CourseEventLog.Batch batch = eventLog.readAfter(cursor, SEND_BATCH);
+                    if (batch.overrun()) {
+                        long latest = eventLog.latestSequence();
+                        emitter.send(SseEmitter.event().name("reset").id(eventLog.eventId(latest)).data(latest));
+                        emitter.complete();
+                        return;
+                    }
+                    if (batch.events().isEmpty()) {
+                        if (System.currentTimeMillis() - lastSent >= HEARTBEAT_MILLIS) {
+                            emitter.send(SseEmitter.event().comment("keep-alive"));
+                            lastSent = System.currentTimeMillis();
+                        }
+                        Thread.sleep(pollMillis);
+                        continue;
+                    }
+                    for (CourseEvent event : batch.events()) {
+                        emitter.send(SseEmitter.event()
+                                .id(eventLog.eventId(event.getSequence()))
+                                .name(event.getType())
+                                .data(event, MediaType.APPLICATION_JSON));
+                        cursor = event.getSequence();
+                    }
+                    lastSent = System.currentTimeMillis();
+                }
+            } catch (IOException | IllegalStateException exception) {
+                // istemci bağlantıyı kapattı
+                emitter.completeWithError(exception);
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                emitter.complete();
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package com.S17Challenge.SpringRestAPI.controller;
+
+import com.S17Challenge.SpringRestAPI.entity.ApiResponse;
+import com.S17Challenge.SpringRestAPI.entity.BatchResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CoursePage;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.service.CourseEventLog;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrors;
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.service.CourseBatchService;
+import com.S17Challenge.SpringRestAPI.service.CourseResponseCache;
+import com.S17Challenge.SpringRestAPI.service.CourseSearchIndex;
+import com.S17Challenge.SpringRestAPI.service.CourseStatistics;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
+import com.S17Challenge.SpringRestAPI.service.WireFormat;
+import com.S17Challenge.SpringRestAPI.validation.CourseValidation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+// CourseController'ın WebFlux (reactive) karşılığı. Aynı endpoint'leri aynı kurallarla sunar, yollar CourseRouter'da tanımlıdır.
+// Okumalar bellekteki indekslerden yapıldığı için doğrudan event-loop thread'inde çalışır.
+// Ekleme, güncelleme ve silme diske yazılmayı (group commit) beklediği için boundedElastic havuzuna taşınır;
+// event-loop thread'leri hiçbir zaman bloklanmaz, bu yüzden az sayıda thread binlerce yavaş istemciye hizmet verebilir.
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CourseHandler {
+
+    // Akış modunda istemciden bir seferde istenen kurs sayısı (servlet sürümündeki flush aralığı ile aynı).
+    private static final int STREAM_BATCH = 256;
+
+    private static final ParameterizedTypeReference<List<Course>> COURSE_LIST = new ParameterizedTypeReference<>() {
+    };
+
+    private final CourseRepository courses;
+    private final GpaCalculator gpaCalculator;
+    private final CourseStatistics courseStatistics;
+    private final CourseSearchIndex courseSearchIndex;
+    private final CourseResponseCache responseCache;
+    private final CourseMetrics courseMetrics;
+    private final CourseBatchService courseBatchService;
+    private final CourseEventLog eventLog;
+    private final Duration eventPollInterval;
+
+    public CourseHandler(CourseRepository courses, GpaCalculator gpaCalculator, CourseStatistics courseStatistics,
+                         CourseSearchIndex courseSearchIndex, CourseResponseCache responseCache, CourseMetrics courseMetrics,
+                         CourseBatchService courseBatchService, CourseEventLog eventLog,
+                         @Value("${course.events.poll-interval-ms:100}") long eventPollMillis) {
+        this.courses = courses;
+        this.gpaCalculator = gpaCalculator;
+        this.courseStatistics = courseStatistics;
+        this.courseSearchIndex = courseSearchIndex;
+        this.responseCache = responseCache;
+        this.courseMetrics = courseMetrics;
+        this.courseBatchService = courseBatchService;
+        this.eventLog = eventLog;
+        this.eventPollInterval = Duration.ofMillis(eventPollMillis);
+    }
+
+    // GET /courses: önbellekteki JSON/CBOR gövdesi ve katalog sürümüne bağlı ETag.
+    // Liste okunurken katalog değiştiyse gövde ETag'siz döner (bkz. CourseResponseCache).
+    public Mono<ServerResponse> getAll(ServerRequest request) {
+        WireFormat format = WireFormat.fromAccept(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        long version = courses.version();
+        CourseResponseCache.CachedResponse cached = responseCache.allCourses(version, courses::findAll, courses::unchangedSince, format);
+        if (cached.etag() == null) {
+            return ServerResponse.ok()
+                    .varyBy(HttpHeaders.ACCEPT)
+                    .contentType(format.getMediaType())
+                    .bodyValue(cached.body());
+        }
+        if (notModified(request, cached.etag())) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
+        }
+        return ServerResponse.ok()
+                .eTag(cached.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .bodyValue(cached.body());
+    }
+
+    // GET /courses/page?after=&size=
+    public Mono<ServerResponse> getPage(ServerRequest request) {
+        Integer after = request.queryParam("after").map(Integer::valueOf).orElse(null);
+        int size = request.queryParam("size").map(Integer::parseInt).orElse(50);
+        CourseValidation.checkPageSize(size);
+
+        List<Course> page = courses.findPage(after, size);
+        Integer nextCursor = page.size() < size ? null : page.get(page.size() - 1).getId();
+        return ServerResponse.ok().bodyValue(new CoursePage(page, nextCursor));
+    }
+
+    // GET /courses/stats
+    public Mono<ServerResponse> getStats(ServerRequest request) {
+        return ServerResponse.ok().bodyValue(courseStatistics.snapshot());
+    }
+
+    // GET /courses/search?q=&limit=&fuzzy=
+    public Mono<ServerResponse> search(ServerRequest request) {
+        String query = request.queryParam("q").orElse(null);
+        int limit = request.queryParam("limit").map(Integer::parseInt).orElse(10);
+        boolean fuzzy = request.queryParam("fuzzy").map(Boolean::parseBoolean).orElse(false);
+        CourseValidation.checkSearch(query, limit);
+
+        if (!fuzzy) {
+            return ServerResponse.ok().bodyValue(courseSearchIndex.searchPrefix(query, limit));
+        }
+        if (!courseSearchIndex.isFuzzyEnabled()) {
+            throw ApiErrors.FUZZY_SEARCH_DISABLED;
+        }
+        return ServerResponse.ok().bodyValue(courseSearchIndex.searchFuzzy(query, limit));
+    }
+
+    // GET /courses/stream: tüm katalog NDJSON olarak akıtılır.
+    // Flux.fromStream istemcinin talebine (backpressure) göre ilerler; yavaş bir istemci için depo daha hızlı gezilmez
+    // ve kurslar bellekte birikmez.
+    public Mono<ServerResponse> streamAll(ServerRequest request) {
+        Flux<Course> body = Flux.fromStream(() -> courses.streamOrderedAfter(null)).limitRate(STREAM_BATCH);
+        return ServerResponse.ok().contentType(MediaType.APPLICATION_NDJSON).body(body, Course.class);
+    }
+
+    // GET /courses/events: değişiklik olayları (SSE). Devam etme ve "reset" kuralları CourseEventController ile aynıdır.
+    // Zamanlayıcı tetiklemeleri onBackpressureDrop ile birleştirilir; yavaş bir istemci için tetiklemeler birikmez,
+    // istemci okuyabildiğinde halkada kaldığı yerden devam eder ya da çok geride kaldıysa reset alır.
+    public Mono<ServerResponse> events(ServerRequest request) {
+        Optional<String> from = request.queryParam("from");
+        String lastEventId = request.headers().firstHeader("Last-Event-ID");
+        long start;
+        if (from.isPresent()) {
+            start = Long.parseLong(from.get());
+        } else if (lastEventId != null) {
+            start = eventLog.sequenceOf(lastEventId);
+        } else {
+            start = eventLog.latestSequence();
+        }
+
+        AtomicLong cursor = new AtomicLong(start);
+        Flux<ServerSentEvent<Object>> events = Flux.interval(Duration.ZERO, eventPollInterval)
+                .onBackpressureDrop()
+                .concatMap(tick -> {
+                    CourseEventLog.Batch batch = eventLog.readAfter(cursor.get(), STREAM_BATCH);
+                    if (batch.overrun()) {
+                        long latest = eventLog.latestSequence();
+                        return Flux.just(ServerSentEvent.builder((Object) latest).event("reset").id(eventLog.eventId(latest)).build());
+                    }
+                    return Flux.fromIterable(batch.events()).map(event -> {
+                        cursor.set(event.getSequence());
+                        return ServerSentEvent.builder((Object) event).event(event.getType()).id(eventLog.eventId(event.getSequence())).build();
+                    });
+                }, 1)
+                .takeUntil(event -> "reset".equals(event.event()));
+        return ServerResponse.ok().body(BodyInserters.fromServerSentEvents(events));
+    }
+
+    // GET /courses/{name}
+    public Mono<ServerResponse> getCourseByName(ServerRequest request) {
+        Optional<CourseRecord> course = courses.findRecordByName(request.pathVariable("name"));
+        if (course.isEmpty()) {
+            throw ApiErrors.COURSE_NOT_FOUND;
+        }
+
+        WireFormat format = WireFormat.fromAccept(request.headers().firstHeader(HttpHeaders.ACCEPT));
+        CourseResponseCache.CachedResponse cached = responseCache.course(course.get(), courses::isCurrent, format);
+        if (notModified(request, cached.etag())) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED).eTag(cached.etag()).build();
+        }
+        return ServerResponse.ok()
+                .eTag(cached.etag())
+                .varyBy(HttpHeaders.ACCEPT)
+                .contentType(format.getMediaType())
+                .bodyValue(cached.body());
+    }
+
+    // POST /courses
+    public Mono<ServerResponse> addCourse(ServerRequest request) {
+        return request.bodyToMono(Course.class)
+                .switchIfEmpty(Mono.error(ApiErrors.COURSE_REQUIRED))
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(course -> {
+                    CourseValidation.checkName(course.getName());
+                    CourseValidation.checkCredit(course.getCredit());
+                    CourseValidation.checkGrade(course.getGrade());
+                    CourseValidation.checkId(course.getId());
+
+                    int totalGpa = gpaCalculator.totalGpa(course);
+
+                    if (!courses.add(course)) {
+                        return ServerResponse.badRequest().build(); // course zaten var
+                    }
+                    courseMetrics.recordGpaTier(course.getCredit());
+                    return ServerResponse.status(HttpStatus.CREATED).bodyValue(new ApiResponse(course, totalGpa));
+                });
+    }
+
+    // POST /courses/batch
+    public Mono<ServerResponse> addCourses(ServerRequest request) {
+        return request.bodyToMono(COURSE_LIST)
+                .switchIfEmpty(Mono.error(ApiErrors.BATCH_SIZE_OUT_OF_RANGE))
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(batch -> {
+                    BatchResponse response = courseBatchService.addAll(batch);
+                    return ServerResponse.status(CourseBatchService.status(response)).bodyValue(response);
+                });
+    }
+
+    // PUT /courses/{id}: If-Match ile iyimser eşzamanlılık kontrolü (bkz. CourseController.updateCourse).
+    public Mono<ServerResponse> updateCourse(ServerRequest request) {
+        Integer id = Integer.valueOf(request.pathVariable("id"));
+        String ifMatch = request.headers().firstHeader(HttpHeaders.IF_MATCH);
+        WireFormat format = WireFormat.fromAccept(request.headers().firstHeader(HttpHeaders.ACCEPT));
+
+        return request.bodyToMono(Course.class)
+                .switchIfEmpty(Mono.error(ApiErrors.COURSE_REQUIRED))
+                .publishOn(Schedulers.boundedElastic())
+                .flatMap(newCourse -> {
+                    CourseValidation.checkId(id);
+                    CourseValidation.checkName(newCourse.getName());
+                    CourseValidation.checkCredit(newCourse.getCredit());
+                    CourseValidation.checkGrade(newCourse.getGrade());
+
+                    long[] expectedVersions = ifMatch == null || ifMatch.trim().equals("*") ? null : responseCache.versionsOf(ifMatch);
+                    CourseRepository.UpdateOutcome outcome = courses.update(id, newCourse, expectedVersions);
+                    CourseRepository.UpdateResult result = outcome.result();
+                    if (result == CourseRepository.UpdateResult.NOT_FOUND) {
+                        return ServerResponse.notFound().build();
+                    }
+                    if (result == CourseRepository.UpdateResult.NAME_TAKEN) {
+                        return ServerResponse.badRequest().build();
+                    }
+                    if (result == CourseRepository.UpdateResult.VERSION_MISMATCH) {
+                        return Mono.error(ApiErrors.COURSE_VERSION_MISMATCH);
+                    }
+                    courseMetrics.recordGpaTier(newCourse.getCredit());
+
+                    // yanıt ve ETag bu isteğin yazdığı kayıttan üretilir, depodan tekrar okunmaz.
+                    CourseRecord updatedCourse = outcome.course();
+                    return ServerResponse.ok()
+                            .eTag(responseCache.courseEtag(updatedCourse, format))
+                            .bodyValue(updatedCourse.toCourse());
+                });
+    }
+
+    // DELETE /courses/{id}
+    public Mono<ServerResponse> deleteCourse(ServerRequest request) {
+        Integer id = Integer.valueOf(request.pathVariable("id"));
+        CourseValidation.checkId(id);
+
+        return Mono.fromCallable(() -> courses.deleteById(id).isPresent())
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(removed -> removed ? ServerResponse.ok().build() : ServerResponse.notFound().build());
+    }
+
+    // If-None-Match başlığındaki etiketlerden biri (ya da "*") güncel ETag ile eşleşiyorsa 304 dönülür.
+    // Zayıf karşılaştırma yapılır, yani "W/" öneki yok sayılır.
+    private static boolean notModified(ServerRequest request, String etag) {
+        for (String header : request.headers().header(HttpHeaders.IF_NONE_MATCH)) {
+            for (String tag : header.split(",")) {
+                String value = tag.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if (value.equals("*") || value.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
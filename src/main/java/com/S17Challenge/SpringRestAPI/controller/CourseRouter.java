@@ -0,0 +1,49 @@
+package com.S17Challenge.SpringRestAPI.controller;
+
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrorResponse;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.exceptions.GlobalExceptionHandler;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+// Reactive modda /courses yolları. Uygulama şu ayarla WebFlux (Netty) üzerinde çalışır:
+//      spring.main.web-application-type=reactive
+// Sabit yollar (/page, /stats, /search, /stream, /events, /batch) {name} ve {id} yollarından önce tanımlanır.
+// Hatalar GlobalExceptionHandler'a yönlendirilir; böylece status, gövde (ApiErrorResponse), metrikler ve log örnekleme
+// servlet sürümü ile aynıdır.
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class CourseRouter {
+
+    @Bean
+    public RouterFunction<ServerResponse> courseRoutes(CourseHandler handler, GlobalExceptionHandler errors) {
+        return RouterFunctions.route()
+                .path("/courses", courses -> courses
+                        .GET("", handler::getAll)
+                        .GET("/page", handler::getPage)
+                        .GET("/stats", handler::getStats)
+                        .GET("/search", handler::search)
+                        .GET("/stream", handler::streamAll)
+                        .GET("/events", handler::events)
+                        .GET("/{name}", handler::getCourseByName)
+                        .POST("", handler::addCourse)
+                        .POST("/batch", handler::addCourses)
+                        .PUT("/{id}", handler::updateCourse)
+                        .DELETE("/{id}", handler::deleteCourse))
+                // Handler doğrulama hatalarını Mono dönmeden önce (senkron) de fırlatabilir, bu yüzden defer kullanıyoruz.
+                .filter((request, next) -> Mono.defer(() -> next.handle(request))
+                        .onErrorResume(ApiExceptions.class, exception -> toServerResponse(errors.handleApiException(exception)))
+                        .onErrorResume(Exception.class, exception -> toServerResponse(errors.handleAllExceptions(exception))))
+                .build();
+    }
+
+    private static Mono<ServerResponse> toServerResponse(ResponseEntity<ApiErrorResponse> error) {
+        return ServerResponse.status(error.getStatusCode()).bodyValue(error.getBody());
+    }
+}
@@ -0,0 +1,18 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Toplu eklemede her bir kursun sonucu.
+// index gönderilen listedeki sırayı, status o kurs için HTTP durum kodunu gösterir.
+// Başarılı kayıtlarda course ve totalGpa dolu, hatalı kayıtlarda message dolu döner.
+@Data
+@AllArgsConstructor
+public class BatchItemResult {
+
+    private Integer index;
+    private Integer status;
+    private Course course;
+    private Integer totalGpa;
+    private String message;
+}
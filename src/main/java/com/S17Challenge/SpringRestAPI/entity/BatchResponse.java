@@ -0,0 +1,16 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Toplu ekleme (POST /courses/batch) yanıtı. Bazı kurslar hatalı olsa bile diğerleri eklenir.
+@Data
+@AllArgsConstructor
+public class BatchResponse {
+
+    private Integer created; // eklenen kurs sayısı
+    private Integer failed; // eklenemeyen kurs sayısı
+    private List<BatchItemResult> results;
+}
@@ -0,0 +1,16 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// GET /courses/events akışında gönderilen değişiklik olayı.
+// type: "added", "updated" ya da "removed". course, değişiklikten sonraki kurstur (silmede silinen kurs).
+// sequence her olayda bir artar; bağlantı koparsa istemci son aldığı olayın id'si ile kaldığı yerden devam eder.
+@Data
+@AllArgsConstructor
+public class CourseEvent {
+
+    private Long sequence;
+    private String type;
+    private Course course;
+}
@@ -2,7 +2,8 @@ package com.S17Challenge.SpringRestAPI.entity;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
-@Configuration
+// @Bean metodları birbirini çağırmadığı için CGLIB proxy'sine gerek yoktur; başlangıçta proxy sınıfı üretilmez.
+@Configuration(proxyBeanMethods = false)
 public class CourseGpaConfig {
 
     @Bean
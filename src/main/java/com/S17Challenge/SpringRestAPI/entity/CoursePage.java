@@ -0,0 +1,16 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+// Sayfalı listeleme yanıtı. nextCursor bir sonraki sayfayı istemek için "after" parametresine verilir.
+// Son sayfada nextCursor null döner.
+@Data
+@AllArgsConstructor
+public class CoursePage {
+
+    private List<Course> courses;
+    private Integer nextCursor;
+}
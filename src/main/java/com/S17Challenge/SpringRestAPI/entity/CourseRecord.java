@@ -0,0 +1,109 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Depoda saklanan sıkıştırılmış ve değişmez (immutable) kurs kaydı.
+// Course DTO'su kutulanmış Integer alanlar ve ayrı bir Grade nesnesi taşır; kurs başına birkaç nesne ve başlık (header) demektir.
+// Burada id ve credit ilkel (primitive) alanlardır, Grade ise paylaşılan bir StoredGrade'e referanstır.
+// Katalogdaki not (note) ve katsayı çeşitleri az olduğu için aynı değerler tek bir StoredGrade nesnesini paylaşır.
+// İsim tek bir String olarak tutulur; isim zaten küçük harfse isim indeksinin anahtarı da aynı nesnedir.
+// Course DTO'ları sadece API sınırında (toCourse) üretilir.
+// Her kayıt bir sürüm (version) taşır. Güncelleme kaydı yerinde değiştirmez, daha yüksek sürümlü yeni bir kayıt ile değiştirir.
+// Sürümler depo genelindeki tek bir sayaçtan alınır; böylece silinip aynı id ile yeniden eklenen bir kurs eski bir sürümü tekrar kullanmaz.
+public final class CourseRecord {
+
+    // İstemciler rastgele notlar gönderebileceği için havuz sınırsız büyümez; sınır aşılınca değerler paylaşılmadan saklanır.
+    private static final int MAX_POOLED_GRADES = 1024;
+    private static final ConcurrentHashMap<StoredGrade, StoredGrade> GRADES = new ConcurrentHashMap<>();
+
+    private final int id;
+    private final String name;
+    private final byte credit;
+    private final StoredGrade grade;
+    private final long version;
+
+    private CourseRecord(int id, String name, byte credit, StoredGrade grade, long version) {
+        this.id = id;
+        this.name = name;
+        this.credit = credit;
+        this.grade = grade;
+        this.version = version;
+    }
+
+    // Doğrulanmış bir DTO'dan kayıt üretir. id, name ve credit dolu olmalıdır.
+    public static CourseRecord of(Course course, long version) {
+        return withId(course.getId(), course, version);
+    }
+
+    // Grade'i olmayan kayıt.
+    public static CourseRecord of(int id, String name, int credit, long version) {
+        return new CourseRecord(id, name, (byte) credit, null, version);
+    }
+
+    public static CourseRecord of(int id, String name, int credit, Integer coefficient, String note, long version) {
+        return new CourseRecord(id, name, (byte) credit, intern(new StoredGrade(coefficient, note)), version);
+    }
+
+    // Aynı id'ye sahip, verilen DTO'nun değerlerini taşıyan yeni bir kayıt (güncelleme için).
+    public static CourseRecord withId(int id, Course course, long version) {
+        Grade grade = course.getGrade();
+        return grade == null
+                ? of(id, course.getName(), course.getCredit(), version)
+                : of(id, course.getName(), course.getCredit(), grade.getCoefficient(), grade.getNote(), version);
+    }
+
+    // Aynı değerleri taşıyan, sürümü farklı bir kopya. Grade nesnesi paylaşılır.
+    public CourseRecord withVersion(long newVersion) {
+        return new CourseRecord(id, name, credit, grade, newVersion);
+    }
+
+    public int id() {
+        return id;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int credit() {
+        return credit;
+    }
+
+    public boolean hasGrade() {
+        return grade != null;
+    }
+
+    public Integer coefficient() {
+        return grade == null ? null : grade.coefficient();
+    }
+
+    public String note() {
+        return grade == null ? null : grade.note();
+    }
+
+    public long version() {
+        return version;
+    }
+
+    // API sınırında kullanılan DTO. Her çağrıda yeni nesne üretilir çünkü Course ve Grade değiştirilebilir (mutable).
+    public Course toCourse() {
+        return new Course(id, name, (int) credit, grade == null ? null : new Grade(grade.coefficient(), grade.note()));
+    }
+
+    private static StoredGrade intern(StoredGrade grade) {
+        StoredGrade pooled = GRADES.get(grade);
+        if (pooled != null) {
+            return pooled;
+        }
+        if (GRADES.size() >= MAX_POOLED_GRADES) {
+            return grade;
+        }
+        // Not metni de havuzdaki ilk nesneden paylaşılır; JSON'dan her istekte yeni bir String okunur.
+        pooled = GRADES.putIfAbsent(grade, grade);
+        return pooled == null ? grade : pooled;
+    }
+
+    // Paylaşılan not ve katsayı değeri. Değişmez olduğu için farklı kayıtlar aynı nesneyi güvenle kullanır.
+    private record StoredGrade(Integer coefficient, String note) {
+    }
+}
@@ -0,0 +1,19 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.Map;
+
+// GET /courses/stats yanıtı. Katalogdaki tüm kurslar için toplam ve ortalama totalGpa,
+// kredi bazında dağılım ve not (Grade.note) bazında kurs sayılarını içerir.
+@Data
+@AllArgsConstructor
+public class CourseStats {
+
+    private Long courseCount;
+    private Long totalGpa;
+    private Double averageGpa;
+    private Map<Integer, TierStats> byCredit;
+    private Map<String, Long> byNote;
+}
@@ -0,0 +1,14 @@
+package com.S17Challenge.SpringRestAPI.entity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Bir kredi değeri için istatistik. tier o kredinin kullandığı CourseGpa bean'inin adıdır.
+@Data
+@AllArgsConstructor
+public class TierStats {
+
+    private String tier;
+    private Long courseCount;
+    private Long totalGpa;
+}
@@ -0,0 +1,30 @@
+package com.S17Challenge.SpringRestAPI.exceptions;
+
+import org.springframework.http.HttpStatus;
+
+// Mesajı sabit olan, sık fırlatılan hatalar uygulama açılırken bir kez oluşturulur.
+// ApiExceptions stack trace tutmadığı ve değiştirilemediği için aynı nesneyi farklı isteklerde fırlatmak güvenlidir.
+// Son parametre hatanın hangi kuraldan geldiğini belirtir ve metriklerde etiket olarak kullanılır.
+public final class ApiErrors {
+
+    public static final ApiExceptions COURSE_NOT_FOUND = new ApiExceptions("Course not found", HttpStatus.NOT_FOUND, "not-found");
+    public static final ApiExceptions COURSE_REQUIRED = new ApiExceptions("Course cannot be null", HttpStatus.BAD_REQUEST, "course");
+    public static final ApiExceptions NAME_REQUIRED = new ApiExceptions("Name cannot be null or empty", HttpStatus.BAD_REQUEST, "name");
+    public static final ApiExceptions NAME_TOO_LONG = new ApiExceptions("Name cannot be longer than 255 characters", HttpStatus.BAD_REQUEST, "name-length");
+    public static final ApiExceptions CREDIT_OUT_OF_RANGE = new ApiExceptions("Credit must be between 0 and 4!", HttpStatus.BAD_REQUEST, "credit");
+    public static final ApiExceptions NOTE_TOO_LONG = new ApiExceptions("Grade note cannot be longer than 255 characters", HttpStatus.BAD_REQUEST, "note-length");
+    public static final ApiExceptions GRADE_REQUIRED = new ApiExceptions("Grade and coefficient cannot be null!", HttpStatus.BAD_REQUEST, "grade");
+    public static final ApiExceptions BATCH_SIZE_OUT_OF_RANGE = new ApiExceptions("Batch must contain between 1 and 10000 courses!", HttpStatus.BAD_REQUEST, "batch-size");
+    public static final ApiExceptions PAGE_SIZE_OUT_OF_RANGE = new ApiExceptions("Page size must be between 1 and 1000!", HttpStatus.BAD_REQUEST, "page-size");
+    public static final ApiExceptions QUERY_REQUIRED = new ApiExceptions("Search query cannot be null or empty", HttpStatus.BAD_REQUEST, "search-query");
+    public static final ApiExceptions QUERY_TOO_LONG = new ApiExceptions("Search query cannot be longer than 255 characters", HttpStatus.BAD_REQUEST, "search-query-length");
+    public static final ApiExceptions SEARCH_LIMIT_OUT_OF_RANGE = new ApiExceptions("Search limit must be between 1 and 100!", HttpStatus.BAD_REQUEST, "search-limit");
+    public static final ApiExceptions FUZZY_SEARCH_DISABLED = new ApiExceptions("Fuzzy search is not enabled", HttpStatus.BAD_REQUEST, "search-fuzzy");
+    public static final ApiExceptions COURSE_VERSION_MISMATCH = new ApiExceptions("Course was modified by another request", HttpStatus.PRECONDITION_FAILED, "if-match");
+    public static final ApiExceptions RATE_LIMITED = new ApiExceptions("Too many requests, please retry later", HttpStatus.TOO_MANY_REQUESTS, "rate-limit");
+    public static final ApiExceptions TOO_MANY_CONCURRENT_WRITES = new ApiExceptions("Too many concurrent course writes, please retry later", HttpStatus.TOO_MANY_REQUESTS, "write-concurrency");
+    public static final ApiExceptions ID_REQUIRED = new ApiExceptions("ID cannot be null or less than zero ID = null", HttpStatus.BAD_REQUEST, "id");
+
+    private ApiErrors() {
+    }
+}
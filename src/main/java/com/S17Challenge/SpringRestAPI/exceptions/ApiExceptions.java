@@ -2,21 +2,30 @@ package com.S17Challenge.SpringRestAPI.exceptions;
 
 
 import lombok.Getter;
-import lombok.Setter;
 import org.springframework.http.HttpStatus;
 
 // Bu sınıf özel hata fırlatmasını sağlıyor. RuntimeException sınıfını genişletip httpStatus  ile birlikte özel mesajlar gönderiyor.
+// Bu hatalar beklenen iş kuralı hataları (400, 404) olduğu için stack trace toplanmaz. Stack trace üretmek
+// hatalı istek yağdıran istemcilerde CPU'nun büyük kısmını harcar ve bu hatalarda bir işe yaramaz.
+// Mesajı sabit olan hatalar ApiErrors içinde bir kez oluşturulup tekrar kullanılır, bu yüzden alanlar değiştirilemez.
 @Getter
-@Setter
 
 public class ApiExceptions extends RuntimeException {
 
-    private HttpStatus httpStatus;
+    private final HttpStatus httpStatus;
+
+    // Hatanın hangi doğrulama kuralından geldiği (ör. "name", "credit"). Metriklerde etiket olarak kullanılır.
+    private final String rule;
 
 
     public ApiExceptions(String message, HttpStatus httpStatus) {
-        super(message);  // RunTimeException sınıfnının hata mesajlarını çağrıyor.
+        this(message, httpStatus, "other");
+    }
+
+    public ApiExceptions(String message, HttpStatus httpStatus, String rule) {
+        super(message, null, false, false);  // RunTimeException sınıfnının hata mesajlarını çağrıyor. suppression ve stack trace kapalı.
         this.httpStatus = httpStatus;
+        this.rule = rule;
     }
 
 }
@@ -0,0 +1,37 @@
+package com.S17Challenge.SpringRestAPI.exceptions;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// Hata loglarını saniyede en fazla "permitsPerSecond" satır ile sınırlar.
+// Sınırı aşan hatalar loglanmaz, sadece sayılır; bir sonraki loglanan satırda kaç hatanın atlandığı yazılır.
+// Kilit kullanmaz, sadece atomik sayaçlarla çalışır.
+public class ErrorLogSampler {
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int permitsPerSecond;
+    private final AtomicLong windowStart = new AtomicLong(System.nanoTime());
+    private final AtomicInteger loggedInWindow = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public ErrorLogSampler(int permitsPerSecond) {
+        this.permitsPerSecond = permitsPerSecond;
+    }
+
+    // Loglanmasına izin verilirse o ana kadar atlanan hata sayısını (0 veya daha fazla), verilmezse -1 döner.
+    public long tryAcquire() {
+        long now = System.nanoTime();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            loggedInWindow.set(0); // yeni bir saniye başladı
+        }
+        if (loggedInWindow.incrementAndGet() > permitsPerSecond) {
+            suppressed.increment();
+            return -1;
+        }
+        return suppressed.sumThenReset();
+    }
+}
@@ -1,22 +1,39 @@
 package com.S17Challenge.SpringRestAPI.exceptions;
 
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import java.util.logging.ErrorManager;
-
 @Slf4j // lombok kütüphanesi tarafından sağlanıyor. log nesnesi eklememizi sağlar. logları dinamik olarak kontrol edebilmemizi sağlar.
 @ControllerAdvice // bu anatasyon sayesinde sınıfın global hata yöneticisi olarak işlev görmesini sağlar.
 public class GlobalExceptionHandler {
 
+    // Hatalı istek yağdıran bir istemci logları doldurup CPU'yu log yazmaya harcatmasın diye loglar örneklenir.
+    // Beklenen API hataları ile beklenmeyen hatalar ayrı sınırlanır, böylece biri diğerinin loglarını bastırmaz.
+    private final ErrorLogSampler apiErrorLogSampler;
+    private final ErrorLogSampler unexpectedErrorLogSampler;
+
+    // Hataları status ve kural bazında sayar.
+    private final CourseMetrics courseMetrics;
+
+    public GlobalExceptionHandler(@Value("${course.errors.log-per-second:10}") int logPerSecond, CourseMetrics courseMetrics) {
+        this.courseMetrics = courseMetrics;
+        this.apiErrorLogSampler = new ErrorLogSampler(logPerSecond);
+        this.unexpectedErrorLogSampler = new ErrorLogSampler(logPerSecond);
+    }
 
     @ExceptionHandler // bu anatasyon bu metodun yalnızca apiException türündeki istisnaları yakalayacağını belirtir.
     public ResponseEntity<ApiErrorResponse> handleApiException(ApiExceptions apiExceptions) {
 
-        log.error("API exception occured! Exception details: ", apiExceptions.getMessage());
+        courseMetrics.recordError(apiExceptions);
+        long suppressed = apiErrorLogSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.error("API exception occured! Exception details: {} (suppressed since last log: {})", apiExceptions.getMessage(), suppressed);
+        }
         ApiErrorResponse apiErrorResponse = new ApiErrorResponse(
                 apiExceptions.getHttpStatus().value(),
                 apiExceptions.getMessage(),
@@ -27,7 +44,10 @@ public class GlobalExceptionHandler {
 
     @ExceptionHandler
     public ResponseEntity<ApiErrorResponse> handleAllExceptions(Exception exception){
-        log.error("Exception occured! Exception details: ", exception.getMessage());
+        long suppressed = unexpectedErrorLogSampler.tryAcquire();
+        if (suppressed >= 0) {
+            log.error("Exception occured! Exception details: {} (suppressed since last log: {})", exception.getMessage(), suppressed, exception);
+        }
         ApiErrorResponse apiErrorResponse = new ApiErrorResponse(
                 HttpStatus.INTERNAL_SERVER_ERROR.value(),
                 exception.getMessage(),
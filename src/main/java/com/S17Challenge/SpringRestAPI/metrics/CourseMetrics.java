@@ -0,0 +1,82 @@
+package com.S17Challenge.SpringRestAPI.metrics;
+
+import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.service.CourseSearchIndex;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+// Kurs API'sine özel metrikler. Endpoint gecikmeleri Spring Boot'un http.server.requests metriğinden gelir (bkz. MetricsConfig).
+//
+//  course.store.size            depodaki kurs sayısı
+//  course.store.version         katalog sürümü (her değişiklikte artar)
+//  course.search.index.size     önek ve trigram indekslerinin boyutu (index etiketi)
+//  course.api.errors            ApiExceptions sayısı (status ve rule etiketleri, ör. rule=credit)
+//  course.gpa.tier.hits         başarıyla eklenen/güncellenen kurslarda totalGpa seviyesi (tier ve credit etiketleri)
+//
+// Gauge'lar sadece Prometheus okurken hesaplanır. Sayaçlar önceden oluşturulup saklanır, böylece istek yolunda
+// sadece bir LongAdder artırılır; registry araması ya da etiket nesnesi oluşturulmaz.
+@Component
+public class CourseMetrics {
+
+    private final MeterRegistry registry;
+    private final Counter[] gpaTierHits = new Counter[GpaCalculator.MAX_CREDIT + 1];
+    private final ConcurrentHashMap<String, ConcurrentHashMap<HttpStatus, Counter>> errorCounters = new ConcurrentHashMap<>();
+
+    public CourseMetrics(MeterRegistry registry, CourseRepository courses, CourseSearchIndex searchIndex,
+                         GpaCalculator gpaCalculator) {
+        this.registry = registry;
+
+        Gauge.builder("course.store.size", courses, CourseRepository::size)
+                .description("Number of courses in the store")
+                .register(registry);
+        Gauge.builder("course.store.version", courses, CourseRepository::version)
+                .description("Catalog version, bumped on every mutation")
+                .register(registry);
+        Gauge.builder("course.search.index.size", searchIndex, CourseSearchIndex::prefixIndexSize)
+                .tag("index", "prefix")
+                .register(registry);
+        Gauge.builder("course.search.index.size", searchIndex, CourseSearchIndex::ngramIndexSize)
+                .tag("index", "trigram")
+                .register(registry);
+
+        for (int credit = GpaCalculator.MIN_CREDIT; credit <= GpaCalculator.MAX_CREDIT; credit++) {
+            gpaTierHits[credit] = Counter.builder("course.gpa.tier.hits")
+                    .description("totalGpa computations per CourseGpa tier")
+                    .tag("tier", gpaCalculator.tierName(credit))
+                    .tag("credit", String.valueOf(credit))
+                    .register(registry);
+        }
+    }
+
+    public void recordGpaTier(int credit) {
+        gpaTierHits[credit].increment();
+    }
+
+    // Anahtar olarak sabit rule metni ve HttpStatus kullanılır, bu yüzden kayıt sırasında yeni nesne oluşturulmaz.
+    public void recordError(ApiExceptions exception) {
+        ConcurrentHashMap<HttpStatus, Counter> byStatus = errorCounters.get(exception.getRule());
+        if (byStatus == null) {
+            byStatus = errorCounters.computeIfAbsent(exception.getRule(), rule -> new ConcurrentHashMap<>());
+        }
+        Counter counter = byStatus.get(exception.getHttpStatus());
+        if (counter == null) {
+            counter = byStatus.computeIfAbsent(exception.getHttpStatus(), status -> errorCounter(exception));
+        }
+        counter.increment();
+    }
+
+    private Counter errorCounter(ApiExceptions exception) {
+        return Counter.builder("course.api.errors")
+                .description("API errors by HTTP status and validation rule")
+                .tag("status", String.valueOf(exception.getHttpStatus().value()))
+                .tag("rule", exception.getRule())
+                .register(registry);
+    }
+}
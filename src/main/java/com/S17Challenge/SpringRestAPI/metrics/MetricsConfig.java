@@ -0,0 +1,38 @@
+package com.S17Challenge.SpringRestAPI.metrics;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+import java.time.Duration;
+
+// Endpoint bazında gecikme metrikleri için Spring Boot'un otomatik ürettiği http.server.requests metriği kullanılır
+// (uri ve method etiketleri sayesinde addCourse, updateCourse, deleteCourse, getCourseByName ayrı ayrı görünür).
+// Bu filtre o metriğe Prometheus histogram bucket'ları ve p50/p95/p99 değerlerini ekler.
+// Prometheus formatındaki çıktı /workintech/actuator/prometheus adresinden okunur (bkz. metrics.properties).
+@Configuration(proxyBeanMethods = false)
+@PropertySource("classpath:metrics.properties")
+public class MetricsConfig {
+
+    @Bean
+    public MeterFilter httpServerRequestsHistogram() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!id.getName().startsWith("http.server.requests")) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(0.5, 0.95, 0.99)
+                        .minimumExpectedValue((double) Duration.ofMillis(1).toNanos())
+                        .maximumExpectedValue((double) Duration.ofSeconds(5).toNanos())
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+}
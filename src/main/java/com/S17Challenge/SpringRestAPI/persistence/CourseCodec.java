@@ -0,0 +1,90 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+// Log ve snapshot dosyalarında kullanılan sıkıştırılmış ikili kurs formatı.
+// id, name, credit her zaman doludur (depo doğrulanmış kursları saklar). Grade alanları boş olabilir,
+// bu yüzden hangi alanların yazıldığı tek bir bayrak byte'ında tutulur.
+// Metinler [uzunluk][UTF-8 byte'ları] olarak yazılır; writeUTF'in 64 KB sınırına bağlı değildir. Eski dosyalardaki
+// writeUTF ile yazılmış kayıtlar readLegacy ile okunur (log'da OP_UPSERT_LEGACY, snapshot'ta "CRS1" ile işaretlidir).
+final class CourseCodec {
+
+    private static final int HAS_GRADE = 1;
+    private static final int HAS_COEFFICIENT = 2;
+    private static final int HAS_NOTE = 4;
+    // Okunan bir metnin olabilecek en büyük boyutu. Bozuk bir uzunluk alanı yüzünden dev bir dizi ayrılmasın diye.
+    private static final int MAX_STRING_BYTES = 1 << 16;
+
+    private CourseCodec() {
+    }
+
+    static void write(DataOutput out, CourseRecord course) throws IOException {
+        int flags = 0;
+        if (course.hasGrade()) {
+            flags |= HAS_GRADE;
+            if (course.coefficient() != null) {
+                flags |= HAS_COEFFICIENT;
+            }
+            if (course.note() != null) {
+                flags |= HAS_NOTE;
+            }
+        }
+
+        out.writeInt(course.id());
+        writeString(out, course.name());
+        out.writeByte(course.credit());
+        out.writeByte(flags);
+        if ((flags & HAS_COEFFICIENT) != 0) {
+            out.writeInt(course.coefficient());
+        }
+        if ((flags & HAS_NOTE) != 0) {
+            writeString(out, course.note());
+        }
+    }
+
+    // Okunan notlar CourseRecord içinde paylaşılan değerlere dönüştürülür, böylece geri yüklenen katalog da sıkıştırılmış olur.
+    // Sürüm diske yazılmaz; depo açılışta kayıtlara yeni sürümler verir (ETag'ler zaten her açılışta değişir).
+    static CourseRecord read(DataInput in) throws IOException {
+        return read(in, false);
+    }
+
+    // Metinleri writeUTF ile yazılmış eski formattaki kayıt.
+    static CourseRecord readLegacy(DataInput in) throws IOException {
+        return read(in, true);
+    }
+
+    private static CourseRecord read(DataInput in, boolean legacy) throws IOException {
+        int id = in.readInt();
+        String name = legacy ? in.readUTF() : readString(in);
+        int credit = in.readByte();
+        int flags = in.readByte();
+
+        if ((flags & HAS_GRADE) == 0) {
+            return CourseRecord.of(id, name, credit, 0);
+        }
+        Integer coefficient = (flags & HAS_COEFFICIENT) != 0 ? in.readInt() : null;
+        String note = (flags & HAS_NOTE) == 0 ? null : legacy ? in.readUTF() : readString(in);
+        return CourseRecord.of(id, name, credit, coefficient, note, 0);
+    }
+
+    private static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        int length = in.readInt();
+        if (length < 0 || length > MAX_STRING_BYTES) {
+            throw new IOException("Invalid course string length: " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
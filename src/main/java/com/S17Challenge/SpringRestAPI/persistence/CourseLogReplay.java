@@ -0,0 +1,11 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+
+// Açılışta snapshot ve log kayıtlarını depoya geri yüklemek için kullanılır.
+public interface CourseLogReplay {
+
+    void upsert(CourseRecord course);
+
+    void remove(Integer id);
+}
@@ -0,0 +1,19 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+
+import java.util.concurrent.CompletableFuture;
+
+// CourseRepository'nin arkasındaki kalıcılık katmanı.
+// Depo her değişikliği kursun yazma kilidi altında buraya bildirir, yani aynı kursun kayıtları sıralıdır.
+// Dönen future, kayıt diske yazıldığında (group commit) tamamlanır. Depo değişikliği ancak bu future başarıyla
+// tamamlandıktan sonra bellekte görünür yapar; future hata ile biterse değişiklik hiç uygulanmaz.
+public interface CoursePersistence {
+
+    // Uygulama açılırken bir kez çağrılır. Diskteki kayıtlar sırasıyla replay'e aktarılır.
+    void recover(CourseLogReplay replay);
+
+    CompletableFuture<Void> logUpsert(CourseRecord course);
+
+    CompletableFuture<Void> logDelete(Integer id);
+}
@@ -0,0 +1,504 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+// Yerel diske yazan kalıcılık katmanı. Dış bir veritabanı kullanmaz.
+//
+// Write-ahead log: her ekleme/güncelleme/silme işlemi "wal-<n>.log" dosyasına eklenir (append-only).
+// Her kayıt [uzunluk][crc32][op][id][kurs] şeklindedir. Kayıt, isteği yapan thread'de byte dizisine çevrilir
+// ve kuyruğa bırakılır. Tek bir yazıcı thread kuyrukta biriken tüm kayıtları tek seferde yazar ve
+// bir kez fsync yapar (group commit). Böylece eşzamanlı yazmalar tek tek disk beklemez.
+//
+// Snapshot: log dosyası segment-records kayda ulaşınca yeni bir log dosyasına geçilir. Kapanan log dosyaları
+// arka planda bir önceki snapshot ile birleştirilip "snapshot-<n>.bin" olarak yazılır ve eski dosyalar silinir.
+// Snapshot bellekteki depodan değil loglardan üretildiği için yazma işlemlerini hiç durdurmaz.
+//
+// Açılışta en son snapshot yüklenir, ardından snapshot'tan sonraki log dosyaları sırasıyla uygulanır.
+// Son log dosyasının sonunda yarım kalmış (crc'si tutmayan) bir kayıt varsa orada durulur.
+//
+// Yazma hatası: başarısız grubun dosyaya yazılmış (belki yarım) kısmı kesilip atılır (truncate), böylece sonraki gruplar
+// sağlam bir kaydın arkasına yazılır ve açılışta kaybolmaz. Kesme ya da yeni log dosyasına geçiş başarısız olursa
+// log kalıcı olarak kullanılamaz hale gelir ve sonraki bütün yazmalar hata ile döner.
+@Slf4j
+public class FileCoursePersistence implements CoursePersistence {
+
+    // Metinleri writeUTF ile yazılmış eski ekleme/güncelleme kaydı; sadece okunur.
+    private static final byte OP_UPSERT_LEGACY = 1;
+    private static final byte OP_DELETE = 2;
+    private static final byte OP_UPSERT = 3;
+    private static final int FRAME_HEADER = 8; // uzunluk + crc
+    private static final int MAX_BATCH = 4096;
+    // Kuyruk doluysa yazan istekler yazıcı thread yer açana kadar bekler.
+    private static final int MAX_QUEUED = 65_536;
+    // Bir kaydın olabilecek en büyük boyutu. Bozuk bir uzunluk alanı yüzünden açılışta dev bir dizi ayrılmasın diye.
+    private static final int MAX_FRAME = 1 << 18;
+
+    private static final int LEGACY_SNAPSHOT_MAGIC = 0x43525331; // "CRS1", metinler writeUTF ile
+    private static final int SNAPSHOT_MAGIC = 0x43525332; // "CRS2"
+    private static final Pattern SEGMENT = Pattern.compile("wal-(\\d+)\\.log");
+    private static final Pattern SNAPSHOT = Pattern.compile("snapshot-(\\d+)\\.bin");
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final boolean fsync;
+
+    private final LinkedBlockingQueue<LogEntry> queue = new LinkedBlockingQueue<>(MAX_QUEUED);
+    private final ExecutorService compactor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "course-snapshot");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final Thread writer = new Thread(this::writeLoop, "course-wal-writer");
+
+    // running sadece yazma kilidi altında değişir, kuyruğa ekleme okuma kilidi altında yapılır.
+    // Böylece close() sonrasında kuyruğa kayıt eklenemez ve eklenmiş her kayıt yazıcı thread durmadan önce işlenir.
+    private final ReentrantReadWriteLock state = new ReentrantReadWriteLock();
+    private volatile boolean running;
+    // Kurtarılamayan bir yazma hatasından sonra dolu olur; yeni kayıtlar kabul edilmez.
+    private volatile IOException failure;
+
+    // Aşağıdaki alanlara sadece yazıcı thread erişir.
+    private FileChannel segment;
+    private long segmentIndex;
+    private long segmentSize;
+    private int recordsInSegment;
+
+    public FileCoursePersistence(Path directory, int segmentRecords, boolean fsync) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+        this.fsync = fsync;
+    }
+
+    @Override
+    public void recover(CourseLogReplay replay) {
+        try {
+            Files.createDirectories(directory);
+
+            long covered = latestSnapshot();
+            if (covered > 0) {
+                readSnapshot(snapshotPath(covered), replay);
+            }
+
+            long lastSegment = covered;
+            for (long index : segments()) {
+                if (index > covered) {
+                    readSegment(segmentPath(index), replay);
+                }
+                lastSegment = Math.max(lastSegment, index);
+            }
+
+            // Yarım kalmış bir kaydın arkasına yazmamak için her açılışta yeni bir log dosyası açıyoruz.
+            openSegment(lastSegment + 1);
+            running = true;
+            writer.setDaemon(true);
+            writer.start();
+
+            if (lastSegment > covered) {
+                long sealed = lastSegment;
+                compactor.execute(() -> compact(sealed));
+            }
+            log.info("Course store recovered from {} (snapshot {}, log segments up to {})", directory, covered, lastSegment);
+        } catch (IOException exception) {
+            throw new UncheckedIOException("Course store could not be recovered from " + directory, exception);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Void> logUpsert(CourseRecord course) {
+        return enqueue(OP_UPSERT, course.id(), course);
+    }
+
+    @Override
+    public CompletableFuture<Void> logDelete(Integer id) {
+        return enqueue(OP_DELETE, id, null);
+    }
+
+    // Kuyrukta bekleyen kayıtlar yazılır, yazıcı ve snapshot thread'leri kapatılır.
+    public void close() throws IOException, InterruptedException {
+        Lock lock = state.writeLock();
+        lock.lock();
+        try {
+            running = false;
+        } finally {
+            lock.unlock();
+        }
+        writer.join();
+        compactor.shutdown();
+        compactor.awaitTermination(30, TimeUnit.SECONDS);
+        if (segment != null) {
+            segment.close();
+        }
+        failPending(new IOException("Course store is closed"));
+    }
+
+    private CompletableFuture<Void> enqueue(byte op, Integer id, CourseRecord course) {
+        LogEntry entry = new LogEntry(frame(op, id, course));
+        Lock lock = state.readLock();
+        lock.lock();
+        try {
+            if (!running) {
+                return CompletableFuture.failedFuture(new IOException("Course store is closed"));
+            }
+            IOException failed = failure;
+            if (failed != null) {
+                return CompletableFuture.failedFuture(failed);
+            }
+            queue.put(entry);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            return CompletableFuture.failedFuture(new InterruptedIOException("Interrupted while queueing a course log record"));
+        } finally {
+            lock.unlock();
+        }
+        return entry.done;
+    }
+
+    // ---- yazıcı thread ----
+
+    private void writeLoop() {
+        List<LogEntry> batch = new ArrayList<>(MAX_BATCH);
+        while (running || !queue.isEmpty()) {
+            try {
+                LogEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH - 1);
+                writeBatch(batch);
+            } catch (RuntimeException exception) {
+                // yazıcı thread ölürse kuyruktaki istekler sonsuza kadar bekler, bu yüzden hata kalıcı hataya çevrilir
+                fail(new IOException(exception));
+                batch.forEach(entry -> entry.done.completeExceptionally(failure));
+            } catch (InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void writeBatch(List<LogEntry> batch) {
+        IOException failed = failure;
+        if (failed != null) {
+            batch.forEach(entry -> entry.done.completeExceptionally(failed));
+            return;
+        }
+
+        ByteBuffer[] buffers = new ByteBuffer[batch.size()];
+        for (int i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(batch.get(i).frame);
+        }
+
+        long total = 0;
+        for (ByteBuffer buffer : buffers) {
+            total += buffer.remaining();
+        }
+        try {
+            long remaining = total;
+            while (remaining > 0) {
+                remaining -= segment.write(buffers);
+            }
+            if (fsync) {
+                segment.force(false); // tüm grup için tek fsync
+            }
+        } catch (IOException exception) {
+            log.error("Course log write failed: {}", exception.getMessage());
+            discardTail();
+            batch.forEach(entry -> entry.done.completeExceptionally(exception));
+            return;
+        }
+
+        segmentSize += total;
+        batch.forEach(entry -> entry.done.complete(null));
+
+        recordsInSegment += batch.size();
+        if (recordsInSegment >= segmentRecords) {
+            rollSegment();
+        }
+    }
+
+    // Başarısız grubun dosyaya yazılmış kısmını siler; log son onaylanmış kayıtta biter.
+    private void discardTail() {
+        try {
+            segment.truncate(segmentSize);
+            segment.force(false);
+        } catch (IOException exception) {
+            fail(exception);
+        }
+    }
+
+    private void rollSegment() {
+        long sealed = segmentIndex;
+        try {
+            segment.close();
+            openSegment(sealed + 1);
+        } catch (IOException exception) {
+            fail(exception);
+            return;
+        }
+        compactor.execute(() -> compact(sealed));
+    }
+
+    private void openSegment(long index) throws IOException {
+        segment = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        segmentIndex = index;
+        segmentSize = segment.size();
+        recordsInSegment = 0;
+    }
+
+    // Log'un hangi noktada bittiği bilinmediği için yeni kayıtlar kabul edilmez; uygulama yeniden başlatılmalıdır.
+    private void fail(IOException cause) {
+        log.error("Course log is no longer writable: {}", cause.getMessage());
+        failure = new IOException("Course log is no longer writable", cause);
+    }
+
+    private void failPending(IOException exception) {
+        LogEntry entry;
+        while ((entry = queue.poll()) != null) {
+            entry.done.completeExceptionally(exception);
+        }
+    }
+
+    // ---- snapshot ----
+
+    // Önceki snapshot ile "sealed" numarasına kadar olan log dosyalarını birleştirip yeni bir snapshot yazar.
+    private void compact(long sealed) {
+        try {
+            Map<Integer, CourseRecord> state = new HashMap<>();
+            CourseLogReplay toState = new CourseLogReplay() {
+                @Override
+                public void upsert(CourseRecord course) {
+                    state.put(course.id(), course);
+                }
+
+                @Override
+                public void remove(Integer id) {
+                    state.remove(id);
+                }
+            };
+
+            long covered = latestSnapshot();
+            if (covered >= sealed) {
+                return;
+            }
+            if (covered > 0) {
+                readSnapshot(snapshotPath(covered), toState);
+            }
+            List<Long> merged = new ArrayList<>();
+            for (long index : segments()) {
+                if (index > covered && index <= sealed) {
+                    readSegment(segmentPath(index), toState);
+                    merged.add(index);
+                }
+            }
+
+            writeSnapshot(sealed, state);
+
+            for (long index : merged) {
+                Files.deleteIfExists(segmentPath(index));
+            }
+            if (covered > 0) {
+                Files.deleteIfExists(snapshotPath(covered));
+            }
+            log.info("Course snapshot {} written with {} courses", sealed, state.size());
+        } catch (IOException exception) {
+            log.error("Course snapshot {} failed: {}", sealed, exception.getMessage());
+        }
+    }
+
+    private void writeSnapshot(long sealed, Map<Integer, CourseRecord> state) throws IOException {
+        Path temporary = directory.resolve("snapshot-" + sealed + ".bin.tmp");
+        try (FileChannel channel = FileChannel.open(temporary,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream checked = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), 1 << 16), new CRC32());
+            DataOutputStream out = new DataOutputStream(checked);
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(sealed);
+            out.writeInt(state.size());
+            for (CourseRecord course : state.values()) {
+                CourseCodec.write(out, course);
+            }
+            out.writeInt((int) checked.getChecksum().getValue());
+            out.flush();
+            channel.force(true);
+        }
+        Files.move(temporary, snapshotPath(sealed), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private void readSnapshot(Path path, CourseLogReplay replay) throws IOException {
+        try (InputStream file = Files.newInputStream(path)) {
+            CheckedInputStream checked = new CheckedInputStream(new BufferedInputStream(file, 1 << 16), new CRC32());
+            DataInputStream in = new DataInputStream(checked);
+            int magic = in.readInt();
+            if (magic != SNAPSHOT_MAGIC && magic != LEGACY_SNAPSHOT_MAGIC) {
+                throw new IOException("Not a course snapshot: " + path);
+            }
+            boolean legacy = magic == LEGACY_SNAPSHOT_MAGIC;
+            in.readLong();
+            int count = in.readInt();
+            List<CourseRecord> courses = new ArrayList<>(Math.min(Math.max(count, 0), 1 << 16));
+            for (int i = 0; i < count; i++) {
+                courses.add(legacy ? CourseCodec.readLegacy(in) : CourseCodec.read(in));
+            }
+            int expected = (int) checked.getChecksum().getValue();
+            if (in.readInt() != expected) {
+                throw new IOException("Corrupted course snapshot: " + path);
+            }
+            courses.forEach(replay::upsert);
+        }
+    }
+
+    // ---- log ----
+
+    private static byte[] frame(byte op, Integer id, CourseRecord course) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            DataOutputStream out = new DataOutputStream(bytes);
+            out.writeLong(0); // uzunluk ve crc için yer ayırıyoruz
+            out.writeByte(op);
+            out.writeInt(id);
+            if (course != null) {
+                CourseCodec.write(out, course);
+            }
+            byte[] frame = bytes.toByteArray();
+
+            CRC32 crc = new CRC32();
+            crc.update(frame, FRAME_HEADER, frame.length - FRAME_HEADER);
+            ByteBuffer header = ByteBuffer.wrap(frame);
+            header.putInt(0, frame.length - FRAME_HEADER);
+            header.putInt(4, (int) crc.getValue());
+            return frame;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private void readSegment(Path path, CourseLogReplay replay) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            while (true) {
+                byte[] payload;
+                int expected;
+                try {
+                    int length = in.readInt();
+                    expected = in.readInt();
+                    if (length <= 0) {
+                        break;
+                    }
+                    if (length > MAX_FRAME) {
+                        log.warn("Course log {} has an invalid record length, ignoring the rest of the file", path.getFileName());
+                        break;
+                    }
+                    payload = new byte[length];
+                    in.readFully(payload);
+                } catch (EOFException endOfLog) {
+                    break; // dosyanın sonu ya da yarım yazılmış son kayıt
+                }
+
+                CRC32 crc = new CRC32();
+                crc.update(payload);
+                if ((int) crc.getValue() != expected) {
+                    log.warn("Course log {} has a torn record, ignoring the rest of the file", path.getFileName());
+                    break;
+                }
+                apply(new DataInputStream(new ByteArrayInputStream(payload)), replay);
+            }
+        }
+    }
+
+    private static void apply(DataInputStream record, CourseLogReplay replay) throws IOException {
+        byte op = record.readByte();
+        int id = record.readInt();
+        if (op == OP_UPSERT) {
+            replay.upsert(CourseCodec.read(record));
+        } else if (op == OP_UPSERT_LEGACY) {
+            replay.upsert(CourseCodec.readLegacy(record));
+        } else if (op == OP_DELETE) {
+            replay.remove(id);
+        } else {
+            throw new IOException("Unknown course log operation: " + op);
+        }
+    }
+
+    // ---- dosya isimleri ----
+
+    private long latestSnapshot() throws IOException {
+        long latest = 0;
+        for (long index : list(SNAPSHOT)) {
+            latest = Math.max(latest, index);
+        }
+        return latest;
+    }
+
+    private List<Long> segments() throws IOException {
+        return list(SEGMENT);
+    }
+
+    private List<Long> list(Pattern pattern) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> pattern.matcher(file.getFileName().toString()))
+                    .filter(Matcher::matches)
+                    .map(matcher -> Long.parseLong(matcher.group(1)))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("wal-%012d.log", index));
+    }
+
+    private Path snapshotPath(long index) {
+        return directory.resolve(String.format("snapshot-%012d.bin", index));
+    }
+
+    private static final class LogEntry {
+
+        private final byte[] frame;
+        private final CompletableFuture<Void> done = new CompletableFuture<>();
+
+        private LogEntry(byte[] frame) {
+            this.frame = frame;
+        }
+    }
+}
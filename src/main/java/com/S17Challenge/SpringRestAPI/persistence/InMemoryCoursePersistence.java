@@ -0,0 +1,26 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+
+import java.util.concurrent.CompletableFuture;
+
+// Varsayılan kalıcılık: hiçbir şey diske yazılmaz, veriler sadece bellekte tutulur.
+public class InMemoryCoursePersistence implements CoursePersistence {
+
+    private static final CompletableFuture<Void> DONE = CompletableFuture.completedFuture(null);
+
+    @Override
+    public void recover(CourseLogReplay replay) {
+        // geri yüklenecek veri yok
+    }
+
+    @Override
+    public CompletableFuture<Void> logUpsert(CourseRecord course) {
+        return DONE;
+    }
+
+    @Override
+    public CompletableFuture<Void> logDelete(Integer id) {
+        return DONE;
+    }
+}
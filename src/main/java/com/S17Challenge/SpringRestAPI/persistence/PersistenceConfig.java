@@ -0,0 +1,32 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// Kalıcılık katmanını seçer. Varsayılan olarak veriler sadece bellekte tutulur.
+// Diske yazmak için application.properties içinde:
+//      course.persistence.enabled=true
+//      course.persistence.directory=data            (log ve snapshot dosyalarının klasörü)
+//      course.persistence.segment-records=100000    (bu kadar kayıttan sonra yeni log dosyasına geçilir ve snapshot alınır)
+//      course.persistence.fsync=true                (her group commit sonrası diske zorla yazılır)
+@Configuration(proxyBeanMethods = false)
+public class PersistenceConfig {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "course.persistence.enabled", havingValue = "true")
+    public CoursePersistence fileCoursePersistence(@Value("${course.persistence.directory:data}") String directory,
+                                                   @Value("${course.persistence.segment-records:100000}") int segmentRecords,
+                                                   @Value("${course.persistence.fsync:true}") boolean fsync) {
+        return new FileCoursePersistence(Path.of(directory), segmentRecords, fsync);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "course.persistence.enabled", havingValue = "false", matchIfMissing = true)
+    public CoursePersistence inMemoryCoursePersistence() {
+        return new InMemoryCoursePersistence();
+    }
+}
@@ -0,0 +1,74 @@
+package com.S17Challenge.SpringRestAPI.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// İstemci başına token bucket hız sınırlayıcı. GCRA (Generic Cell Rate Algorithm) ile uygulanır:
+// her istemci için tek bir sayı, "teorik varış zamanı" (TAT) tutulur. Kova dolu değilse istek kabul edilir ve TAT bir
+// aralık (1 / saniyedeki izin) ileri alınır. Böylece istemci başına bir AtomicLong ve tek bir CAS yeterlidir;
+// kilit, zamanlayıcı thread ya da token sayacı gerekmez.
+// Uzun süredir istek göndermeyen istemcilerin kovası zaten doludur, bu yüzden kayıtları silinebilir; istemci sayısı
+// sınırı aşınca bu kayıtlar temizlenir.
+public class ClientRateLimiter {
+
+    // Temizlikte silinen kaydın TAT değeri. Silinmekte olan kayıt üzerindeki bir CAS başarısız olur ve istek kaydı tekrar arar;
+    // böylece silinen (ve yerine yenisi gelen) bir kovaya izin yazılıp istemcinin hakkı sıfırlanmaz.
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private final long emissionIntervalNanos;
+    private final long burstToleranceNanos;
+    private final int maxClients;
+    private final ConcurrentHashMap<String, AtomicLong> arrivals = new ConcurrentHashMap<>();
+    // Temizlik tüm kayıtları gezdiği için en fazla saniyede bir yapılır (çok sayıda yeni istemci gelse bile).
+    private final AtomicLong lastSweepNanos = new AtomicLong(System.nanoTime());
+
+    public ClientRateLimiter(double permitsPerSecond, int burst, int maxClients) {
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate limit must allow at least one request: " + permitsPerSecond + "/s, burst " + burst);
+        }
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+        this.maxClients = maxClients;
+    }
+
+    // İstek kabul edilirse 0, edilmezse istemcinin tekrar denemeden önce beklemesi gereken süreyi (nanosaniye) döner.
+    public long tryAcquire(String client, long nowNanos) {
+        AtomicLong arrival = arrivals.get(client);
+        if (arrival == null) {
+            arrival = register(client, nowNanos);
+        }
+        while (true) {
+            long tat = arrival.get();
+            if (tat == REMOVED) {
+                // temizlik bu kaydı sildi; henüz haritadan çıkmadıysa biz çıkarıp yeni kaydı kullanıyoruz
+                arrivals.remove(client, arrival);
+                arrival = register(client, nowNanos);
+                continue;
+            }
+            long start = tat - nowNanos > 0 ? tat : nowNanos; // kova doluysa TAT geçmişte kalmıştır
+            long wait = start - nowNanos - burstToleranceNanos;
+            if (wait > 0) {
+                return wait;
+            }
+            if (arrival.compareAndSet(tat, start + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    private AtomicLong register(String client, long nowNanos) {
+        long lastSweep = lastSweepNanos.get();
+        if (arrivals.size() >= maxClients && nowNanos - lastSweep >= 1_000_000_000L
+                && lastSweepNanos.compareAndSet(lastSweep, nowNanos)) {
+            // kovası dolmuş (boşta) istemcileri unutuyoruz; tekrar gelirlerse dolu bir kova ile başlarlar.
+            // Kayıt sadece CAS ile REMOVED işaretlenebildiyse (yani bu arada bir istek onu kullanmadıysa) silinir.
+            arrivals.forEach((key, arrival) -> {
+                long tat = arrival.get();
+                if (tat != REMOVED && tat - nowNanos <= 0 && arrival.compareAndSet(tat, REMOVED)) {
+                    arrivals.remove(key, arrival);
+                }
+            });
+        }
+        return arrivals.computeIfAbsent(client, key -> new AtomicLong(nowNanos));
+    }
+}
@@ -0,0 +1,90 @@
+package com.S17Challenge.SpringRestAPI.ratelimit;
+
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrorResponse;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrors;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+// Kurs ekleme, güncelleme ve silme isteklerini CourseController'a ulaşmadan önce sınırlar. Okuma (GET) istekleri etkilenmez.
+// 1) Aynı anda işlenen yazma sayısı sınırı. Semaphore beklemeden denenir (tryAcquire); yer yoksa istek kuyruğa girmez,
+//    hemen 429 döner. Böylece yazma patlaması sırasında thread'ler disk yazmasını beklerken birikmez.
+// 2) İstemci başına hız sınırı (ClientRateLimiter). Aşılırsa 429 ve kovanın tekrar izin vereceği süre Retry-After'da döner.
+// Semaphore önce denenir: sunucu meşgul olduğu için reddedilen bir istek istemcinin kovasından token harcamaz.
+// Token harcanamazsa alınan izin hemen geri verilir.
+// Sınırların altındaki istemciler için maliyet bir map okuması, bir CAS ve semaphore üzerinde bir CAS'tir.
+// Hata gövdesi GlobalExceptionHandler ile aynı formattadır (ApiErrorResponse) ve hatalar course.api.errors metriğine sayılır.
+public class CourseWriteAdmissionFilter extends OncePerRequestFilter {
+
+    private final ClientRateLimiter rateLimiter;
+    private final Semaphore writePermits;
+    private final String clientHeader;
+    private final CourseMetrics courseMetrics;
+    private final ObjectMapper objectMapper;
+
+    public CourseWriteAdmissionFilter(ClientRateLimiter rateLimiter, int maxConcurrentWrites, String clientHeader,
+                                      CourseMetrics courseMetrics, ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.writePermits = new Semaphore(maxConcurrentWrites);
+        this.clientHeader = clientHeader;
+        this.courseMetrics = courseMetrics;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !("POST".equals(method) || "PUT".equals(method) || "DELETE".equals(method));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!writePermits.tryAcquire()) {
+            reject(response, ApiErrors.TOO_MANY_CONCURRENT_WRITES, 1);
+            return;
+        }
+        try {
+            long waitNanos = rateLimiter.tryAcquire(clientOf(request), System.nanoTime());
+            if (waitNanos > 0) {
+                reject(response, ApiErrors.RATE_LIMITED, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+                return;
+            }
+            chain.doFilter(request, response);
+        } finally {
+            writePermits.release();
+        }
+    }
+
+    // İstemci, ayarlanmışsa bir başlıktan (ör. API gateway'in eklediği X-Client-Id), yoksa IP adresinden tanınır.
+    // X-Forwarded-For gibi istemcinin kendi belirleyebildiği başlıklar sadece güvenilen bir proxy arkasında kullanılmalıdır.
+    private String clientOf(HttpServletRequest request) {
+        if (clientHeader != null && !clientHeader.isEmpty()) {
+            String client = request.getHeader(clientHeader);
+            if (client != null && !client.isEmpty()) {
+                return client;
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, ApiExceptions error, long retryAfterSeconds) throws IOException {
+        courseMetrics.recordError(error);
+        response.setStatus(error.getHttpStatus().value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        ApiErrorResponse body = new ApiErrorResponse(error.getHttpStatus().value(), error.getMessage(), System.currentTimeMillis());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+}
@@ -0,0 +1,38 @@
+package com.S17Challenge.SpringRestAPI.ratelimit;
+
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Kurs yazma istekleri için hız sınırı ve eşzamanlılık sınırı (bkz. CourseWriteAdmissionFilter). Varsayılan olarak açıktır.
+//      course.rate-limit.enabled=true
+//      course.rate-limit.permits-per-second=50     (istemci başına saniyedeki ortalama yazma isteği)
+//      course.rate-limit.burst=100                 (istemcinin art arda gönderebileceği en fazla istek)
+//      course.rate-limit.max-clients=100000        (bu sayıdan sonra boşta olan istemcilerin kayıtları silinir)
+//      course.rate-limit.client-header=            (istemciyi tanımak için başlık, boşsa IP adresi kullanılır)
+//      course.rate-limit.max-concurrent-writes=64  (aynı anda işlenen en fazla yazma isteği)
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(name = "course.rate-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig {
+
+    @Bean
+    public FilterRegistrationBean<CourseWriteAdmissionFilter> courseWriteAdmissionFilter(
+            @Value("${course.rate-limit.permits-per-second:50}") double permitsPerSecond,
+            @Value("${course.rate-limit.burst:100}") int burst,
+            @Value("${course.rate-limit.max-clients:100000}") int maxClients,
+            @Value("${course.rate-limit.client-header:}") String clientHeader,
+            @Value("${course.rate-limit.max-concurrent-writes:64}") int maxConcurrentWrites,
+            CourseMetrics courseMetrics, ObjectMapper objectMapper) {
+        ClientRateLimiter rateLimiter = new ClientRateLimiter(permitsPerSecond, burst, maxClients);
+        FilterRegistrationBean<CourseWriteAdmissionFilter> registration = new FilterRegistrationBean<>(
+                new CourseWriteAdmissionFilter(rateLimiter, maxConcurrentWrites, clientHeader, courseMetrics, objectMapper));
+        registration.addUrlPatterns("/courses", "/courses/*");
+        return registration;
+    }
+}
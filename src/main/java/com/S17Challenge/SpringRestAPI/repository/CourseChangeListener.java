@@ -0,0 +1,23 @@
+package com.S17Challenge.SpringRestAPI.repository;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+
+// Depodaki başarılı ekleme, güncelleme ve silme işlemlerinden haberdar olmak isteyen bileşenler bu arayüzü uygular.
+// Metotlar isteği yapan thread üzerinde, değişiklik log'a yazıldıktan sonra kursun yazma kilidi altında çağrılır;
+// aynı kurs için çağrılar sıralıdır. Kısa sürmeli ve bloklamamalıdır.
+// Dinleyiciler depodaki değişmez kayıtları alır; DTO'ya ihtiyaç duyan dinleyici toCourse ile kendisi üretir.
+public interface CourseChangeListener {
+
+    void onAdded(CourseRecord course);
+
+    void onUpdated(CourseRecord oldCourse, CourseRecord newCourse);
+
+    void onRemoved(CourseRecord course);
+
+    // Açılışta diskten geri yüklenen kurslar da dinleyicilere eklenmiş/güncellenmiş/silinmiş olarak bildirilir
+    // (indeksler ve istatistikler böyle dolar). Bunlar yeni değişiklik değildir; olay akışı gibi sadece canlı
+    // değişikliklerle ilgilenen dinleyiciler false döner ve geri yükleme sırasında çağrılmaz.
+    default boolean receivesRecovery() {
+        return true;
+    }
+}
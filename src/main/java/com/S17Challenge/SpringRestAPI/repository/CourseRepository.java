@@ -0,0 +1,333 @@
+package com.S17Challenge.SpringRestAPI.repository;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.persistence.CourseLogReplay;
+import com.S17Challenge.SpringRestAPI.persistence.CoursePersistence;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+// Kursları bellekte tutan, eşzamanlı isteklere dayanıklı depo.
+// İki indeks tutuyoruz: id'ye göre birincil indeks ve isme göre (büyük/küçük harf duyarsız) ikincil indeks.
+// Böylece arama, aynı isim kontrolü ve silme işlemleri listeyi taramadan O(1) sürede yapılır.
+// Okumalar kilitsizdir. Aynı kurs üzerindeki değişiklikler id'ye göre şeritlenmiş (striped) ReentrantLock'larla sıraya girer,
+// farklı kurslar büyük olasılıkla farklı kilitlere düşer ve birbirini beklemez.
+// Her değişiklik önce log'a yazılır ve diske yazılması beklenir; ancak ondan sonra indekslere yazılır ve dinleyicilere
+// bildirilir. Log yazması başarısız olursa değişiklik hiç görünmez, istatistiklere sayılmaz ve olay olarak yayınlanmaz.
+// İsim indeksi aynı isim kontrolü için de kullanılır: yeni isim log'a yazmadan önce rezerve edilir. Rezervasyon,
+// kayıt id indeksine yazılana kadar okumalarda görünmez (bkz. findRecordByName).
+// Kurslar bellekte sıkıştırılmış CourseRecord olarak tutulur; Course DTO'ları sadece okuma metotlarında üretilir.
+@Repository
+public class CourseRepository {
+
+    private final ConcurrentHashMap<Integer, CourseRecord> coursesById = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CourseRecord> coursesByName = new ConcurrentHashMap<>();
+    // Sayfalama (keyset pagination) için id'leri sıralı tutuyoruz. Kilitsiz bir skip list kullanır.
+    private final ConcurrentSkipListSet<Integer> orderedIds = new ConcurrentSkipListSet<>();
+
+    // Yazma kilitleri. synchronized yerine ReentrantLock kullanılır; kilidi tutan virtual thread diske yazılmayı beklerken
+    // taşıyıcı (carrier) thread'i bırakır. Kilit, log yazması süresince tutulur; aynı şeride düşen farklı kurslar bu sürede
+    // birbirini bekler, bu yüzden şerit sayısı eşzamanlı yazma sınırından (course.rate-limit.max-concurrent-writes) çok büyüktür.
+    private static final int WRITE_LOCK_STRIPES = 1024;
+    private final ReentrantLock[] writeLocks = new ReentrantLock[WRITE_LOCK_STRIPES];
+
+    // İstatistik gibi depo değişikliklerini takip eden bileşenler.
+    private final List<CourseChangeListener> listeners;
+
+    // Her başarılı değişiklikte artan katalog sürümü. HTTP cache (ETag) için kullanılır.
+    // startedVersion değişiklik görünür hale gelmeden önce, version ise değişiklik ve dinleyici bildirimleri bittikten sonra
+    // artırılır. İkisi eşitse o anda yarım kalmış bir değişiklik yoktur (bkz. unchangedSince).
+    private final AtomicLong version = new AtomicLong();
+    private final AtomicLong startedVersion = new AtomicLong();
+
+    // Kayıtlara verilen sürüm numaraları. Katalog sürümünden farklı olarak kayıt oluşturulurken (değişiklik görünmeden önce) alınır.
+    // Aynı kurs için sürümler her zaman artar: güncelleme yeni sürümü mevcut kaydı okuduktan sonra alır.
+    private final AtomicLong revisions = new AtomicLong();
+
+    // Değişikliklerin diske yazıldığı katman. Varsayılan olarak sadece bellekte tutulur.
+    private final CoursePersistence persistence;
+
+    public CourseRepository(ObjectProvider<CourseChangeListener> listeners, CoursePersistence persistence) {
+        this.listeners = listeners.orderedStream().toList();
+        this.persistence = persistence;
+        for (int i = 0; i < writeLocks.length; i++) {
+            writeLocks[i] = new ReentrantLock();
+        }
+    }
+
+    // Uygulama açılırken diskteki snapshot ve log kayıtları depoya geri yüklenir.
+    // Geri yükleme sadece receivesRecovery true olan dinleyicilere bildirilir (ör. olay akışına bildirilmez).
+    @PostConstruct
+    public void recover() {
+        List<CourseChangeListener> recoveryListeners = listeners.stream().filter(CourseChangeListener::receivesRecovery).toList();
+        persistence.recover(new CourseLogReplay() {
+            @Override
+            public void upsert(CourseRecord stored) {
+                CourseRecord course = stored.withVersion(revisions.incrementAndGet());
+                CourseRecord previous = coursesById.put(course.id(), course);
+                if (previous != null) {
+                    coursesByName.remove(nameKey(previous.name()), previous);
+                }
+                coursesByName.put(nameKey(course.name()), course);
+                orderedIds.add(course.id());
+                if (previous != null) {
+                    recoveryListeners.forEach(listener -> listener.onUpdated(previous, course));
+                } else {
+                    recoveryListeners.forEach(listener -> listener.onAdded(course));
+                }
+                startedVersion.incrementAndGet();
+                version.incrementAndGet();
+            }
+
+            @Override
+            public void remove(Integer id) {
+                CourseRecord removed = coursesById.remove(id);
+                if (removed != null) {
+                    orderedIds.remove(id);
+                    coursesByName.remove(nameKey(removed.name()), removed);
+                    recoveryListeners.forEach(listener -> listener.onRemoved(removed));
+                    startedVersion.incrementAndGet();
+                    version.incrementAndGet();
+                }
+            }
+        });
+    }
+
+    // Güncelleme işleminin sonucunu controller'a bildirmek için kullanılır.
+    public enum UpdateResult {
+        UPDATED,
+        NOT_FOUND,
+        NAME_TAKEN,
+        VERSION_MISMATCH
+    }
+
+    // Güncellemenin sonucu ve UPDATED ise yazılan kayıt. Yanıt ve ETag bu kayıttan üretilir; depodan tekrar okumak
+    // arada gelen başka bir güncellemenin kaydını döndürebilir.
+    public record UpdateOutcome(UpdateResult result, CourseRecord course) {
+    }
+
+    public List<Course> findAll() {
+        List<Course> all = new ArrayList<>(coursesById.size());
+        for (CourseRecord course : coursesById.values()) {
+            all.add(course.toCourse());
+        }
+        return all;
+    }
+
+    // Verilen id'den (hariç) sonraki kursları id sırasıyla döner. after null ise baştan başlar.
+    // Liste kopyalanmadığı için büyük kataloglarda bile bellek kullanımı sabit kalır.
+    public Stream<Course> streamOrderedAfter(Integer after) {
+        return (after == null ? orderedIds : orderedIds.tailSet(after, false)).stream()
+                .map(coursesById::get)
+                .filter(Objects::nonNull) // bu arada silinmiş olabilir
+                .map(CourseRecord::toCourse);
+    }
+
+    public List<Course> findPage(Integer after, int size) {
+        return streamOrderedAfter(after).limit(size).toList();
+    }
+
+    public Optional<Course> findById(Integer id) {
+        return Optional.ofNullable(coursesById.get(id)).map(CourseRecord::toCourse);
+    }
+
+    public Optional<Course> findByName(String name) {
+        return findRecordByName(name).map(CourseRecord::toCourse);
+    }
+
+    public Optional<CourseRecord> findRecordById(Integer id) {
+        return Optional.ofNullable(coursesById.get(id));
+    }
+
+    // DTO üretmeden depodaki kaydın kendisini döner. Kayıtlar değişmez olduğu için güvenle paylaşılabilir;
+    // yanıt önbelleği kaydın değişip değişmediğini nesne kimliği ile anlar.
+    // İsim indeksindeki kayıt sadece id indeksinde de varsa döner; henüz log'a yazılmakta olan bir kursun rezerve ettiği
+    // isim ya da silinmekte olan bir kursun ismi bulunamaz. İsmi değişmeyen bir güncelleme sırasında iki indeks
+    // kısa bir süre farklı kayıtları gösterebilir, bu durumda id indeksindeki (yeni) kayıt döner.
+    public Optional<CourseRecord> findRecordByName(String name) {
+        String key = nameKey(name);
+        CourseRecord course = coursesByName.get(key);
+        if (course == null) {
+            return Optional.empty();
+        }
+        CourseRecord published = coursesById.get(course.id());
+        if (published == course || (published != null && nameKey(published.name()).equals(key))) {
+            return Optional.of(published);
+        }
+        return Optional.empty();
+    }
+
+    // Kayıt depodaki güncel kayıt ise true döner (bu arada güncellenmiş ya da silinmişse false).
+    public boolean isCurrent(CourseRecord course) {
+        return coursesById.get(course.id()) == course;
+    }
+
+    public boolean existsByName(String name) {
+        return findRecordByName(name).isPresent();
+    }
+
+    public int size() {
+        return coursesById.size();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    // version() ile okunan sürümden sonra hiçbir değişiklik başlamadıysa (ve okunduğu anda yarım kalmış değişiklik yoksa)
+    // true döner. Katalog version okunduktan sonra okunur, ardından bu metot çağrılırsa true sonuç okunan verinin tam olarak
+    // o sürüme ait olduğunu gösterir; yanıt önbelleği sadece bu durumda gövdeyi o sürümün ETag'i ile saklar.
+    public boolean unchangedSince(long catalogVersion) {
+        return startedVersion.get() == catalogVersion;
+    }
+
+    // Önce isim rezerve edilir, sonra kurs log'a yazılır ve ancak diske yazıldıktan sonra görünür hale gelir.
+    // Aynı isim ya da aynı id zaten varsa kurs eklenmez ve false döner.
+    public boolean add(Course newCourse) {
+        CourseRecord course = CourseRecord.of(newCourse, revisions.incrementAndGet());
+        String key = nameKey(course.name());
+        ReentrantLock lock = writeLock(course.id());
+        lock.lock();
+        try {
+            if (coursesById.containsKey(course.id())) {
+                return false; // bu id'de kurs zaten var
+            }
+            if (coursesByName.putIfAbsent(key, course) != null) {
+                return false; // bu isimde kurs zaten var
+            }
+            try {
+                persistence.logUpsert(course).join(); // kayıt diske yazılana kadar bekliyoruz
+            } catch (RuntimeException exception) {
+                coursesByName.remove(key, course); // log'a yazılamadı, isim rezervasyonunu geri alıyoruz
+                throw exception;
+            }
+
+            startedVersion.incrementAndGet();
+            try {
+                coursesById.put(course.id(), course);
+                orderedIds.add(course.id());
+                listeners.forEach(listener -> listener.onAdded(course));
+            } finally {
+                version.incrementAndGet();
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public UpdateResult update(Integer id, Course newCourse) {
+        return update(id, newCourse, null).result();
+    }
+
+    // Mevcut kaydı yerinde değiştirmek yerine daha yüksek sürümlü yeni bir kayıt ile değiştiriyoruz.
+    // Böylece okuyan istekler yarım güncellenmiş bir kurs görmez.
+    // Kontrol ve değiştirme kursun yazma kilidi altında yapılır, yani aynı kursu değiştiren başka bir istek araya giremez.
+    // expectedVersions verilirse (If-Match) kayıt sadece bu sürümlerden birindeyse güncellenir, değilse VERSION_MISMATCH döner.
+    // Boş dizi hiçbir sürüme uymaz; null sürüm kontrolü yapılmayacağı anlamına gelir.
+    public UpdateOutcome update(Integer id, Course newCourse, long[] expectedVersions) {
+        String newKey = nameKey(newCourse.getName());
+        ReentrantLock lock = writeLock(id);
+        lock.lock();
+        try {
+            CourseRecord current = coursesById.get(id);
+            if (current == null) {
+                return new UpdateOutcome(UpdateResult.NOT_FOUND, null);
+            }
+            if (expectedVersions != null && !contains(expectedVersions, current.version())) {
+                return new UpdateOutcome(UpdateResult.VERSION_MISMATCH, null); // istemci kursun eski bir sürümünü değiştirmeye çalışıyor
+            }
+            CourseRecord replacement = CourseRecord.withId(id, newCourse, revisions.incrementAndGet());
+
+            String oldKey = nameKey(current.name());
+            boolean renamed = !oldKey.equals(newKey);
+            if (renamed && coursesByName.putIfAbsent(newKey, replacement) != null) {
+                return new UpdateOutcome(UpdateResult.NAME_TAKEN, null); // yeni isim başka bir kursa ait
+            }
+            try {
+                persistence.logUpsert(replacement).join();
+            } catch (RuntimeException exception) {
+                if (renamed) {
+                    coursesByName.remove(newKey, replacement);
+                }
+                throw exception;
+            }
+
+            startedVersion.incrementAndGet();
+            try {
+                coursesById.put(id, replacement);
+                if (!renamed) {
+                    coursesByName.replace(oldKey, current, replacement);
+                }
+                listeners.forEach(listener -> listener.onUpdated(current, replacement));
+                if (renamed) {
+                    // eski isim dinleyiciler bilgilendirildikten sonra serbest kalır; başka bir kurs bu ismi
+                    // ancak bu değişikliğin olayları yayınlandıktan sonra alabilir.
+                    coursesByName.remove(oldKey, current);
+                }
+            } finally {
+                version.incrementAndGet();
+            }
+            return new UpdateOutcome(UpdateResult.UPDATED, replacement);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static boolean contains(long[] versions, long version) {
+        for (long candidate : versions) {
+            if (candidate == version) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public Optional<Course> deleteById(Integer id) {
+        ReentrantLock lock = writeLock(id);
+        lock.lock();
+        try {
+            CourseRecord existing = coursesById.get(id);
+            if (existing == null) {
+                return Optional.empty();
+            }
+            persistence.logDelete(id).join();
+
+            startedVersion.incrementAndGet();
+            try {
+                coursesById.remove(id);
+                orderedIds.remove(id);
+                listeners.forEach(listener -> listener.onRemoved(existing));
+                coursesByName.remove(nameKey(existing.name()), existing);
+            } finally {
+                version.incrementAndGet();
+            }
+            return Optional.of(existing.toCourse());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // İsim indeksinin anahtarı, karşılaştırmanın büyük/küçük harf duyarsız olması için küçük harfe çevrilir.
+    // İsim zaten küçük harfse toLowerCase aynı String nesnesini döner, yani anahtar ayrıca yer kaplamaz.
+    public static String nameKey(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    private ReentrantLock writeLock(int id) {
+        int hash = id ^ (id >>> 16);
+        return writeLocks[hash & (WRITE_LOCK_STRIPES - 1)];
+    }
+}
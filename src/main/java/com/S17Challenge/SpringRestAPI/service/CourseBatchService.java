@@ -0,0 +1,129 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.BatchItemResult;
+import com.S17Challenge.SpringRestAPI.entity.BatchResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrors;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.metrics.CourseMetrics;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.validation.CourseValidation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+// Bir dönemin tüm derslerini tek istekte eklemek için kullanılır (POST /courses/batch).
+// Servlet (CourseController) ve reactive (CourseHandler) API'leri aynı kuralları kullansın diye ayrı bir bileşendir.
+// 1) Doğrulama ve totalGpa hesabı tüm çekirdeklerde paralel yapılır.
+// 2) Liste içindeki tekrar eden isim/id'ler tek geçişte bulunur, ilk gelen kazanır.
+// 3) Kalan kurslar depoya eşzamanlı eklenir; depoda zaten olanlar hatalı olarak işaretlenir.
+//    Her ekleme log'a yazılmayı beklediği için eklemeler ortak ForkJoin havuzunda değil, her kurs için ayrı bir
+//    virtual thread'de yapılır. Bekleyen yazmalar log'da aynı gruba girer (group commit), böylece tüm liste
+//    birkaç fsync ile yazılır ve paralel stream kullanan diğer kodlar bloklanmaz.
+// Hatalı kurslar diğerlerinin eklenmesini engellemez; bir kurs kaydedilemezse (ör. disk hatası) sadece o kurs 500 ile döner.
+@Slf4j
+@Component
+public class CourseBatchService {
+
+    private final CourseRepository courses;
+    private final GpaCalculator gpaCalculator;
+    private final CourseMetrics courseMetrics;
+
+    public CourseBatchService(CourseRepository courses, GpaCalculator gpaCalculator, CourseMetrics courseMetrics) {
+        this.courses = courses;
+        this.gpaCalculator = gpaCalculator;
+        this.courseMetrics = courseMetrics;
+    }
+
+    // Depoya yazma diske yazılmayı beklediği için bu metot bloklayabilir.
+    public BatchResponse addAll(List<Course> batch) {
+        CourseValidation.checkBatchSize(batch); // liste boyutunu kontrol ediyoruz.
+
+        BatchItemResult[] results = new BatchItemResult[batch.size()];
+        IntStream.range(0, batch.size()).parallel().forEach(i -> {
+            Course course = batch.get(i);
+            try {
+                if (course == null) {
+                    throw ApiErrors.COURSE_REQUIRED;
+                }
+                CourseValidation.checkName(course.getName());
+                CourseValidation.checkCredit(course.getCredit());
+                CourseValidation.checkId(course.getId());
+                CourseValidation.checkGrade(course.getGrade());
+                results[i] = new BatchItemResult(i, HttpStatus.CREATED.value(), course, gpaCalculator.totalGpa(course), null);
+            } catch (ApiExceptions exception) {
+                courseMetrics.recordError(exception);
+                results[i] = failedItem(i, exception.getHttpStatus(), exception.getMessage());
+            }
+        });
+
+        // Liste içindeki tekrarları tek geçişte buluyoruz. İsim ve id ancak ikisi de yeniyse kaydedilir;
+        // böylece sadece id'si tekrar ettiği için reddedilen bir kurs, ismini sonraki geçerli bir kursa kapatmaz.
+        Set<String> names = new HashSet<>();
+        Set<Integer> ids = new HashSet<>();
+        for (int i = 0; i < results.length; i++) {
+            Course course = results[i].getCourse();
+            if (course == null) {
+                continue;
+            }
+            String name = CourseRepository.nameKey(course.getName());
+            if (names.contains(name) || ids.contains(course.getId())) {
+                results[i] = failedItem(i, HttpStatus.BAD_REQUEST, "Duplicate course in batch");
+                continue;
+            }
+            names.add(name);
+            ids.add(course.getId());
+        }
+
+        AtomicInteger storageFailures = new AtomicInteger();
+        try (ExecutorService inserts = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < results.length; i++) {
+                Course course = results[i].getCourse();
+                if (course == null) {
+                    continue;
+                }
+                int index = i;
+                inserts.execute(() -> {
+                    try {
+                        if (courses.add(course)) {
+                            courseMetrics.recordGpaTier(course.getCredit()); // sadece eklenen kurslar sayılır
+                        } else {
+                            results[index] = failedItem(index, HttpStatus.BAD_REQUEST, "Course already exists");
+                        }
+                    } catch (RuntimeException exception) {
+                        storageFailures.incrementAndGet();
+                        results[index] = failedItem(index, HttpStatus.INTERNAL_SERVER_ERROR, "Course could not be stored");
+                    }
+                });
+            }
+        } // close() tüm eklemelerin bitmesini bekler
+        if (storageFailures.get() > 0) {
+            log.error("{} courses of a batch could not be stored", storageFailures.get());
+        }
+
+        int created = 0;
+        for (BatchItemResult result : results) {
+            if (result.getCourse() != null) {
+                created++;
+            }
+        }
+        return new BatchResponse(created, results.length - created, List.of(results));
+    }
+
+    // Hepsi eklenirse 201, bazıları hatalıysa 207 (Multi-Status).
+    public static HttpStatus status(BatchResponse response) {
+        return response.getFailed() == 0 ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+    }
+
+    private static BatchItemResult failedItem(int index, HttpStatus status, String message) {
+        return new BatchItemResult(index, status.value(), null, null, message);
+    }
+}
@@ -0,0 +1,121 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseEvent;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.repository.CourseChangeListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Depodaki değişikliklerin tutulduğu sınırlı boyutlu, kilitsiz halka (ring buffer).
+// Yazan istek sadece bir sıra numarası alır (AtomicLong) ve olayı halkadaki yerine koyar; abonelerden hiçbirini beklemez.
+// Her abone halkayı kendi imleciyle okur. Halka dolunca en eski olaylar üzerine yazılır; bu kadar geride kalan
+// (yavaş) abone "overrun" durumuna düşer ve akıştan çıkarılır, kataloğu yeniden okuyup en son sıradan devam etmelidir.
+// Kapasite 2'nin kuvveti olmalıdır:
+//      course.events.capacity=4096
+@Component
+public class CourseEventLog implements CourseChangeListener {
+
+    public static final String ADDED = "added";
+    public static final String UPDATED = "updated";
+    public static final String REMOVED = "removed";
+
+    private final AtomicReferenceArray<Entry> ring;
+    private final int mask;
+    private final AtomicLong sequence = new AtomicLong();
+
+    // Sıra numaraları her açılışta sıfırdan başladığı için olay id'lerine açılışa özel bir önek eklenir;
+    // önceki açılıştan kalma bir Last-Event-ID yanlış olaylarla eşleşmez.
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    public CourseEventLog(@Value("${course.events.capacity:4096}") int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("course.events.capacity must be a power of two: " + capacity);
+        }
+        this.ring = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    // Okuma sonucu. overrun true ise istenen olaylar artık halkada yok, abone kaldığı yerden devam edemez.
+    public record Batch(List<CourseEvent> events, boolean overrun) {
+    }
+
+    // Depo dinleyicileri aynı kurs için sırayla çağrılır, bu yüzden aynı kursun olayları halkada da sıralıdır.
+    @Override
+    public void onAdded(CourseRecord course) {
+        publish(ADDED, course);
+    }
+
+    @Override
+    public void onUpdated(CourseRecord oldCourse, CourseRecord newCourse) {
+        publish(UPDATED, newCourse);
+    }
+
+    @Override
+    public void onRemoved(CourseRecord course) {
+        publish(REMOVED, course);
+    }
+
+    // Açılışta geri yüklenen kurslar olay olarak yayınlanmaz; aksi halde her yeniden başlatma tüm kataloğu "added"
+    // olarak halkaya yazar ve kaldığı yerden devam etmek isteyen aboneler gereken olayları kaybeder.
+    @Override
+    public boolean receivesRecovery() {
+        return false;
+    }
+
+    public long latestSequence() {
+        return sequence.get();
+    }
+
+    public String eventId(long eventSequence) {
+        return epoch + "-" + eventSequence;
+    }
+
+    // Last-Event-ID başlığındaki sıra numarası. Başka bir açılışa aitse ya da okunamıyorsa -1 döner.
+    public long sequenceOf(String eventId) {
+        String prefix = epoch + "-";
+        if (eventId == null || !eventId.startsWith(prefix)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(prefix.length()));
+        } catch (NumberFormatException exception) {
+            return -1;
+        }
+    }
+
+    // after'dan sonraki en fazla max olayı sırasıyla döner. Sırası alınmış ama henüz halkaya yazılmamış bir olay varsa
+    // orada durulur (sonraki olaylar atlanmaz); abone bir sonraki okumada devam eder.
+    public Batch readAfter(long after, int max) {
+        long latest = sequence.get();
+        if (after < 0 || after > latest || latest - after > ring.length()) {
+            return new Batch(List.of(), true);
+        }
+
+        List<CourseEvent> events = new ArrayList<>((int) Math.min(max, latest - after));
+        for (long next = after + 1; next <= latest && events.size() < max; next++) {
+            Entry entry = ring.get((int) (next & mask));
+            if (entry == null || entry.sequence() < next) {
+                break; // henüz yazılmadı
+            }
+            if (entry.sequence() > next) {
+                return new Batch(List.of(), true); // okurken üzerine yazıldı
+            }
+            events.add(new CourseEvent(entry.sequence(), entry.type(), entry.course().toCourse()));
+        }
+        return new Batch(events, false);
+    }
+
+    private void publish(String type, CourseRecord course) {
+        long next = sequence.incrementAndGet();
+        ring.set((int) (next & mask), new Entry(next, type, course));
+    }
+
+    private record Entry(long sequence, String type, CourseRecord course) {
+    }
+}
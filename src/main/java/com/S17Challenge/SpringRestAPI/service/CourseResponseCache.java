@@ -0,0 +1,182 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.repository.CourseChangeListener;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+// GET /courses ve GET /courses/{name} yanıtlarının JSON'a (ya da CBOR'a) çevrilmiş hallerini ve ETag'lerini saklar.
+// Her format (WireFormat) için ayrı önbellek tutulur.
+//
+// Liste: deponun sürüm numarasına bağlıdır. ETag "<epoch>-<sürüm>" şeklindedir; epoch her açılışta değişir ki
+// yeniden başlatmadan sonra aynı sürüm numarası farklı bir içeriğe denk gelmesin. Sürüm değişmediyse
+// If-None-Match kontrolü için JSON üretmeye bile gerek yoktur. Liste okunurken katalog değiştiyse gövde hiçbir sürüme
+// tam olarak karşılık gelmez; bu gövde saklanmaz ve ETag'siz döner, böylece bir güçlü ETag hiçbir zaman iki farklı gövdeyi göstermez.
+//
+// Tek kurs: önbellekteki kayıt hangi CourseRecord nesnesinden üretildiğini tutar. Depo güncellemede kaydı değiştirdiği için
+// depodaki kayıt ile aynı değilse önbellekteki yanıt eskidir ve yeniden üretilir. Değişen kursların kayıtları ayrıca silinir,
+// böylece bellekte eski veri birikmez. ETag "<epoch>-c<kayıt sürümü>" şeklindedir ve PUT isteğindeki If-Match başlığı
+// bu etiketten kaydın sürümünü çıkarmak için kullanılır (bkz. versionsOf).
+@Component
+public class CourseResponseCache implements CourseChangeListener {
+
+    private final ObjectMapper[] objectMappers = new ObjectMapper[WireFormat.values().length];
+    private final String epoch = Long.toHexString(UUID.randomUUID().getMostSignificantBits());
+
+    private final AtomicReference<CachedResponse>[] allCourses = newReferences();
+    private final ConcurrentHashMap<String, CachedResponse>[] coursesByName = newMaps();
+
+    // Depo dinleyicilerini oluşturulurken aldığı için bu sınıf depoya bağımlı olamaz (döngüsel bağımlılık olur).
+    // Bu yüzden sürüm ve kurslar controller tarafından parametre olarak verilir.
+    public CourseResponseCache(ObjectMapper objectMapper, MappingJackson2CborHttpMessageConverter cborConverter) {
+        this.objectMappers[WireFormat.JSON.ordinal()] = objectMapper;
+        this.objectMappers[WireFormat.CBOR.ordinal()] = cborConverter.getObjectMapper();
+    }
+
+    public record CachedResponse(CourseRecord course, long version, byte[] body, String etag) {
+    }
+
+    // version, courses listesi okunmadan önce okunmuş olmalı. unchangedSince liste okunduktan sonra çağrılır
+    // (bkz. CourseRepository.unchangedSince); false dönerse etag alanı null olan, saklanmamış bir yanıt döner.
+    public CachedResponse allCourses(long version, Supplier<List<Course>> courses, LongPredicate unchangedSince,
+                                     WireFormat format) {
+        AtomicReference<CachedResponse> reference = allCourses[format.ordinal()];
+        CachedResponse cached = reference.get();
+        if (cached != null && cached.version() == version) {
+            return cached;
+        }
+        byte[] body = serialize(courses.get(), format);
+        if (!unchangedSince.test(version)) {
+            return new CachedResponse(null, version, body, null);
+        }
+        CachedResponse fresh = new CachedResponse(null, version, body, etag(version, format));
+        reference.accumulateAndGet(fresh, (current, candidate) ->
+                current == null || current.version() < candidate.version() ? candidate : current);
+        return fresh;
+    }
+
+    // isCurrent kaydın hâlâ depodaki kayıt olup olmadığını söyler (bkz. CourseRepository.isCurrent). Gövde üretilirken kurs
+    // değişir ya da silinirse, dinleyici kaydı bizim put'umuzdan önce silmiş olabilir; bu yüzden put'tan sonra tekrar bakılır
+    // ve kayıt artık güncel değilse eklenen yanıt geri alınır. Depo dinleyicileri haritayı değiştirdikten sonra çağırdığı için
+    // kontrolden sonra gelen bir değişiklik de kaydı kendisi siler; böylece eski bir gövde önbellekte kalmaz.
+    public CachedResponse course(CourseRecord course, Predicate<CourseRecord> isCurrent, WireFormat format) {
+        String key = CourseRepository.nameKey(course.name());
+        ConcurrentHashMap<String, CachedResponse> cache = coursesByName[format.ordinal()];
+        CachedResponse cached = cache.get(key);
+        if (cached != null && cached.course() == course) {
+            return cached;
+        }
+        byte[] body = serialize(course.toCourse(), format);
+        CachedResponse fresh = new CachedResponse(course, course.version(), body, courseEtag(course, format));
+        cache.put(key, fresh);
+        if (!isCurrent.test(course)) {
+            cache.remove(key, fresh);
+        }
+        return fresh;
+    }
+
+    @Override
+    public void onAdded(CourseRecord course) {
+        evict(course);
+    }
+
+    @Override
+    public void onUpdated(CourseRecord oldCourse, CourseRecord newCourse) {
+        evict(oldCourse);
+        evict(newCourse);
+    }
+
+    @Override
+    public void onRemoved(CourseRecord course) {
+        evict(course);
+    }
+
+    private void evict(CourseRecord course) {
+        String key = CourseRepository.nameKey(course.name());
+        for (ConcurrentHashMap<String, CachedResponse> cache : coursesByName) {
+            cache.remove(key);
+        }
+    }
+
+    // Gövde üretmeden tek bir kursun ETag'i (ör. PUT yanıtı için).
+    public String courseEtag(CourseRecord course, WireFormat format) {
+        return "\"" + epoch + "-c" + course.version() + format.getEtagSuffix() + "\"";
+    }
+
+    // If-Match başlığındaki etiketlerden kurs sürümlerini çıkarır. Başlık virgülle ayrılmış birden çok etiket içerebilir;
+    // kayıt bunlardan herhangi birine uyuyorsa güncelleme yapılabilir. If-Match güçlü karşılaştırma kullanır (RFC 9110),
+    // bu yüzden zayıf (W/) etiketler hiçbir sürüme uymaz. Bu uygulamanın (bu açılışın) etiketi olmayanlar da atlanır;
+    // hiçbiri geçerli değilse boş dizi döner. Hangi formattan (JSON/CBOR) alındığı önemli değildir, iki format da aynı sürümü gösterir.
+    public long[] versionsOf(String ifMatch) {
+        String prefix = epoch + "-c";
+        String[] tags = ifMatch.split(",");
+        long[] versions = new long[tags.length];
+        int count = 0;
+        for (String tag : tags) {
+            String value = tag.trim();
+            if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+                continue;
+            }
+            value = value.substring(1, value.length() - 1);
+            if (!value.startsWith(prefix)) {
+                continue;
+            }
+            value = value.substring(prefix.length());
+            for (WireFormat format : WireFormat.values()) {
+                if (!format.getEtagSuffix().isEmpty() && value.endsWith(format.getEtagSuffix())) {
+                    value = value.substring(0, value.length() - format.getEtagSuffix().length());
+                }
+            }
+            try {
+                versions[count++] = Long.parseLong(value);
+            } catch (NumberFormatException exception) {
+                // bu etiket bizim formatımızda değil, sıradakine bakıyoruz
+            }
+        }
+        return Arrays.copyOf(versions, count);
+    }
+
+    private String etag(long version, WireFormat format) {
+        return "\"" + epoch + "-" + version + format.getEtagSuffix() + "\"";
+    }
+
+    private byte[] serialize(Object value, WireFormat format) {
+        try {
+            return objectMappers[format.ordinal()].writeValueAsBytes(value);
+        } catch (JsonProcessingException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static AtomicReference<CachedResponse>[] newReferences() {
+        AtomicReference<CachedResponse>[] references = new AtomicReference[WireFormat.values().length];
+        for (int i = 0; i < references.length; i++) {
+            references[i] = new AtomicReference<>();
+        }
+        return references;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentHashMap<String, CachedResponse>[] newMaps() {
+        ConcurrentHashMap<String, CachedResponse>[] maps = new ConcurrentHashMap[WireFormat.values().length];
+        for (int i = 0; i < maps.length; i++) {
+            maps[i] = new ConcurrentHashMap<>();
+        }
+        return maps;
+    }
+}
@@ -0,0 +1,199 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.repository.CourseChangeListener;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+// Ders adına göre arama (type-ahead) için bellekteki indeksler. Depo değiştikçe güncellenir.
+//
+// Önek (prefix) araması: normalize edilmiş (küçük harf) isimler sıralı bir skip list'te tutulur.
+// "spr" araması "spr" ile "spr￿" arasındaki aralığı gezer, bu yüzden O(log n + limit) sürer.
+//
+// Bulanık (fuzzy) arama: isteğe bağlı trigram (3-gram) indeksi. Her isim "$isim$" şeklinde doldurulup üçlü parçalara
+// ayrılır ve her parça için o parçayı içeren kursların id'leri tutulur. Sorgu ile en çok ortak parçası olan
+// isimler Jaccard benzerliğine göre sıralanır. Yazım hatalarına toleranslıdır ama bellek kullanımı yüksektir,
+// bu yüzden varsayılan olarak kapalıdır:
+//      course.search.ngram.enabled=true
+@Component
+public class CourseSearchIndex implements CourseChangeListener {
+
+    // Bir aramada taranan en fazla id sayısı. Listeler en kısadan başlayarak taranır; bütçe bitince kalan (yaygın, ör. "cou")
+    // parçaların listeleri taranmaz, sadece zaten aday olan kursların skorunu artırır. En kısa liste bile bütçeden büyükse
+    // onun da sadece bütçe kadarı taranır. Böylece 1M kursta bile arama süresi sınırlı kalır.
+    private static final int MAX_POSTINGS_TO_SCAN = 20_000;
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final ConcurrentSkipListMap<String, CourseRecord> namePrefixes = new ConcurrentSkipListMap<>();
+
+    private final boolean ngramEnabled;
+    private final ConcurrentHashMap<String, Set<Integer>> trigrams = new ConcurrentHashMap<>();
+    // Skor hesabında her aday için ismin parça sayısı gerekir, bu yüzden kayıtla birlikte tutulur.
+    private final ConcurrentHashMap<Integer, IndexedCourse> coursesById = new ConcurrentHashMap<>();
+
+    public CourseSearchIndex(@Value("${course.search.ngram.enabled:false}") boolean ngramEnabled) {
+        this.ngramEnabled = ngramEnabled;
+    }
+
+    // Depo aynı kurs için dinleyicileri sırayla çağırır; farklı kurslar aynı ismi sırayla kullanabileceği için
+    // silme işlemleri değer kontrolü ile yapılır (başka bir kursa geçmiş ismi silmemek için).
+    @Override
+    public void onAdded(CourseRecord course) {
+        index(course);
+    }
+
+    @Override
+    public void onUpdated(CourseRecord oldCourse, CourseRecord newCourse) {
+        unindex(oldCourse);
+        index(newCourse);
+    }
+
+    @Override
+    public void onRemoved(CourseRecord course) {
+        unindex(course);
+    }
+
+    public boolean isFuzzyEnabled() {
+        return ngramEnabled;
+    }
+
+    public int prefixIndexSize() {
+        return namePrefixes.size();
+    }
+
+    public int ngramIndexSize() {
+        return trigrams.size();
+    }
+
+    public List<Course> searchPrefix(String query, int limit) {
+        String prefix = CourseRepository.nameKey(query.trim());
+        List<Course> results = new ArrayList<>(Math.min(limit, 16));
+        for (CourseRecord course : namePrefixes.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+            results.add(course.toCourse());
+            if (results.size() == limit) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    public List<Course> searchFuzzy(String query, int limit) {
+        Set<String> queryGrams = trigramsOf(CourseRepository.nameKey(query.trim()));
+
+        // Önce en seçici (en kısa listeli) parçalar taranır.
+        List<Set<Integer>> postings = new ArrayList<>(queryGrams.size());
+        for (String gram : queryGrams) {
+            Set<Integer> ids = trigrams.get(gram);
+            if (ids != null) {
+                postings.add(ids);
+            }
+        }
+        postings.sort(Comparator.comparingInt(Set::size));
+
+        Map<Integer, Integer> hits = new HashMap<>();
+        int budget = MAX_POSTINGS_TO_SCAN;
+        for (Set<Integer> ids : postings) {
+            if (ids.size() > budget && !hits.isEmpty()) {
+                // yaygın parça: sadece zaten aday olan kursların skorunu artırır
+                for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+                    if (ids.contains(hit.getKey())) {
+                        hit.setValue(hit.getValue() + 1);
+                    }
+                }
+                continue;
+            }
+            for (Integer id : ids) {
+                if (budget == 0) {
+                    break;
+                }
+                hits.merge(id, 1, Integer::sum);
+                budget--;
+            }
+        }
+
+        PriorityQueue<ScoredCourse> best = new PriorityQueue<>(Comparator.comparingDouble(ScoredCourse::score));
+        for (Map.Entry<Integer, Integer> hit : hits.entrySet()) {
+            IndexedCourse indexed = coursesById.get(hit.getKey());
+            if (indexed == null) {
+                continue;
+            }
+            double score = (double) hit.getValue() / (queryGrams.size() + indexed.gramCount() - hit.getValue());
+            if (score < MIN_SIMILARITY) {
+                continue;
+            }
+            best.add(new ScoredCourse(indexed.course(), score));
+            if (best.size() > limit) {
+                best.poll(); // en düşük skorlu adayı atıyoruz
+            }
+        }
+
+        List<Course> results = new ArrayList<>(best.size());
+        while (!best.isEmpty()) {
+            results.add(best.poll().course().toCourse());
+        }
+        Collections.reverse(results); // en yüksek skor başta olsun
+        return results;
+    }
+
+    private void index(CourseRecord course) {
+        String key = CourseRepository.nameKey(course.name());
+        namePrefixes.put(key, course);
+        if (ngramEnabled) {
+            Set<String> grams = trigramsOf(key);
+            coursesById.put(course.id(), new IndexedCourse(course, grams.size()));
+            for (String gram : grams) {
+                // ekleme de compute içinde yapılır, yoksa aynı anda boşalıp silinen bir listeye eklenebilir
+                trigrams.compute(gram, (g, ids) -> {
+                    Set<Integer> postings = ids == null ? ConcurrentHashMap.newKeySet() : ids;
+                    postings.add(course.id());
+                    return postings;
+                });
+            }
+        }
+    }
+
+    private void unindex(CourseRecord course) {
+        String key = CourseRepository.nameKey(course.name());
+        namePrefixes.remove(key, course);
+        if (ngramEnabled) {
+            Set<String> grams = trigramsOf(key);
+            coursesById.remove(course.id(), new IndexedCourse(course, grams.size()));
+            for (String gram : grams) {
+                trigrams.computeIfPresent(gram, (g, ids) -> {
+                    ids.remove(course.id());
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    private static Set<String> trigramsOf(String key) {
+        String padded = "$" + key + "$";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    private record ScoredCourse(CourseRecord course, double score) {
+    }
+
+    // CourseRecord equals'ı override etmediği için iki IndexedCourse ancak aynı kayıt nesnesini tutuyorsa eşittir.
+    private record IndexedCourse(CourseRecord course, int gramCount) {
+    }
+}
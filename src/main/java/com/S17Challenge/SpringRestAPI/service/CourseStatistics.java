@@ -0,0 +1,127 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.CourseStats;
+import com.S17Challenge.SpringRestAPI.entity.TierStats;
+import com.S17Challenge.SpringRestAPI.repository.CourseChangeListener;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Katalog genelindeki istatistikleri depo değiştikçe artımlı olarak günceller.
+// LongAdder sayaçları yüksek eşzamanlılıkta tek bir sayaç üzerinde çakışma yaşamaz.
+// İstatistik okumak listeyi taramaz, sadece sayaçları toplar. Bu yüzden katalog büyüklüğünden bağımsızdır.
+// Sayaçlar birbirinden bağımsız okunduğu için eşzamanlı yazmalar sırasında anlık görüntü birkaç işlem geriden gelebilir.
+// Not metinleri istemciden geldiği için en fazla MAX_NOTES farklı not ayrı sayılır, sonrakiler "OTHER" altında toplanır
+// (CourseRecord'daki not havuzu ile aynı sebeple). Sayısı sıfıra inen notlar silinir; yer açılınca yeni notlar yine ayrı sayılır.
+@Component
+public class CourseStatistics implements CourseChangeListener {
+
+    private static final String NO_NOTE = "NONE";
+    private static final String OTHER_NOTES = "OTHER";
+    private static final int MAX_NOTES = 1024;
+
+    private final GpaCalculator gpaCalculator;
+
+    private final LongAdder courseCount = new LongAdder();
+    private final LongAdder totalGpa = new LongAdder();
+    private final LongAdder[] creditCounts = newAdders();
+    private final LongAdder[] creditGpas = newAdders();
+    private final ConcurrentHashMap<String, Long> noteCounts = new ConcurrentHashMap<>();
+    private final AtomicInteger distinctNotes = new AtomicInteger();
+    private final LongAdder otherNotes = new LongAdder();
+
+    public CourseStatistics(GpaCalculator gpaCalculator) {
+        this.gpaCalculator = gpaCalculator;
+    }
+
+    @Override
+    public void onAdded(CourseRecord course) {
+        record(course, 1);
+    }
+
+    @Override
+    public void onUpdated(CourseRecord oldCourse, CourseRecord newCourse) {
+        record(oldCourse, -1);
+        record(newCourse, 1);
+    }
+
+    @Override
+    public void onRemoved(CourseRecord course) {
+        record(course, -1);
+    }
+
+    public CourseStats snapshot() {
+        long count = courseCount.sum();
+        long gpa = totalGpa.sum();
+
+        Map<Integer, TierStats> byCredit = new LinkedHashMap<>();
+        for (int credit = GpaCalculator.MIN_CREDIT; credit <= GpaCalculator.MAX_CREDIT; credit++) {
+            byCredit.put(credit, new TierStats(gpaCalculator.tierName(credit), creditCounts[credit].sum(), creditGpas[credit].sum()));
+        }
+
+        Map<String, Long> byNote = new TreeMap<>();
+        byNote.putAll(noteCounts);
+        long other = otherNotes.sum();
+        if (other > 0) {
+            byNote.merge(OTHER_NOTES, other, Long::sum);
+        }
+
+        return new CourseStats(count, gpa, count == 0 ? 0.0 : (double) gpa / count, byCredit, byNote);
+    }
+
+    // sign +1 ise kurs istatistiklere eklenir, -1 ise çıkarılır.
+    private void record(CourseRecord course, int sign) {
+        int credit = course.credit();
+        int gpa = gpaCalculator.totalGpa(course);
+        String note = course.note() == null ? NO_NOTE : course.note();
+
+        courseCount.add(sign);
+        totalGpa.add((long) sign * gpa);
+        creditCounts[credit].add(sign);
+        creditGpas[credit].add((long) sign * gpa);
+        countNote(note, sign);
+    }
+
+    // Not ayrı sayılıyorsa sayacı değişir, sıfıra inerse silinir. Ayrı sayılmıyorsa (sınır dolduğu için OTHER'a eklenmişse)
+    // OTHER değişir. Aynı notlu bir kursun ekleme ve çıkarması farklı sayaçlara düşebilir, ama toplam ve hiçbir sayaç eksiye inmez.
+    private void countNote(String note, int sign) {
+        boolean[] counted = new boolean[1];
+        noteCounts.compute(note, (key, current) -> {
+            if (current == null) {
+                if (sign < 0) {
+                    return null;
+                }
+                if (distinctNotes.incrementAndGet() > MAX_NOTES) {
+                    distinctNotes.decrementAndGet();
+                    return null;
+                }
+                counted[0] = true;
+                return 1L;
+            }
+            counted[0] = true;
+            long next = current + sign;
+            if (next == 0) {
+                distinctNotes.decrementAndGet();
+                return null;
+            }
+            return next;
+        });
+        if (!counted[0]) {
+            otherNotes.add(sign);
+        }
+    }
+
+    private static LongAdder[] newAdders() {
+        LongAdder[] adders = new LongAdder[GpaCalculator.MAX_CREDIT + 1];
+        for (int i = 0; i < adders.length; i++) {
+            adders[i] = new LongAdder();
+        }
+        return adders;
+    }
+}
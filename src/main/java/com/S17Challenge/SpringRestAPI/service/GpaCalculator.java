@@ -0,0 +1,62 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseGpa;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// totalGpa hesabını yapan motor.
+// Uygulama açılırken CourseGpaConfig içindeki CourseGpa bean'lerinden kredi (0-4) ile indekslenen bir tablo kurulur.
+// Tabloda her kredi için "kredi * gpa" çarpanı hazır tutulur, böylece her istekte if/else ve arayüz çağrısı yapılmaz:
+//      totalGpa = coefficient * table[credit]
+// Hangi kredinin hangi bean'i kullanacağı application.properties üzerinden değiştirilebilir. Örnek:
+//      course.gpa.tier.4=veryHighCourseGpa
+// Yeni bir seviye eklemek için CourseGpa bean'ini tanımlayıp ilgili krediyi o bean'in adına yönlendirmek yeterlidir.
+@Component
+public class GpaCalculator {
+
+    public static final int MIN_CREDIT = 0;
+    public static final int MAX_CREDIT = 4;
+
+    // Varsayılan dağılım: 0-2 kredi low, 3 kredi medium, 4 kredi high.
+    private static final String[] DEFAULT_TIERS = {
+            "lowCourseGpa", "lowCourseGpa", "lowCourseGpa", "mediumCourseGpa", "highCourseGpa"
+    };
+
+    private final int[] creditMultipliers = new int[MAX_CREDIT + 1];
+    private final String[] tierNames = new String[MAX_CREDIT + 1];
+
+    // Spring, CourseGpa türündeki tüm bean'leri bean adı -> nesne şeklinde bir Map olarak enjekte eder.
+    public GpaCalculator(Map<String, CourseGpa> courseGpas, Environment environment) {
+        for (int credit = MIN_CREDIT; credit <= MAX_CREDIT; credit++) {
+            String tierName = environment.getProperty("course.gpa.tier." + credit, DEFAULT_TIERS[credit]);
+            CourseGpa courseGpa = courseGpas.get(tierName);
+            if (courseGpa == null) {
+                throw new IllegalStateException("No CourseGpa bean named '" + tierName + "' for credit " + credit);
+            }
+            tierNames[credit] = tierName;
+            creditMultipliers[credit] = credit * courseGpa.getGpa();
+        }
+    }
+
+    // Kredi ve katsayı CourseValidation ile önceden doğrulanmış olmalı.
+    public int totalGpa(int credit, int coefficient) {
+        return coefficient * creditMultipliers[credit];
+    }
+
+    public int totalGpa(Course course) {
+        return totalGpa(course.getCredit(), course.getGrade().getCoefficient());
+    }
+
+    public int totalGpa(CourseRecord course) {
+        return totalGpa(course.credit(), course.coefficient());
+    }
+
+    // Verilen kredi için kullanılan CourseGpa bean'inin adı (ör. "mediumCourseGpa").
+    public String tierName(int credit) {
+        return tierNames[credit];
+    }
+}
@@ -0,0 +1,54 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+// Önbelleğe alınan yanıtların hangi formatta üretildiği. ETag'e format eki eklenir ki
+// aynı içeriğin JSON ve CBOR halleri birbirinin yerine 304 ile doğrulanmasın.
+public enum WireFormat {
+
+    JSON(MediaType.APPLICATION_JSON, ""),
+    CBOR(MediaType.APPLICATION_CBOR, "-cbor");
+
+    private final MediaType mediaType;
+    private final String etagSuffix;
+
+    WireFormat(MediaType mediaType, String etagSuffix) {
+        this.mediaType = mediaType;
+        this.etagSuffix = etagSuffix;
+    }
+
+    public MediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getEtagSuffix() {
+        return etagSuffix;
+    }
+
+    // Accept başlığında CBOR, JSON'dan daha yüksek öncelikle istenmişse CBOR seçilir. Aksi halde JSON (varsayılan).
+    // "*/*" her iki formatı da kapsadığı için eşitlikte JSON kalır.
+    public static WireFormat fromAccept(String accept) {
+        if (accept == null || accept.isEmpty()) {
+            return JSON;
+        }
+        try {
+            List<MediaType> accepted = MediaType.parseMediaTypes(accept);
+            return quality(accepted, MediaType.APPLICATION_CBOR) > quality(accepted, MediaType.APPLICATION_JSON) ? CBOR : JSON;
+        } catch (InvalidMediaTypeException exception) {
+            return JSON;
+        }
+    }
+
+    private static double quality(List<MediaType> accepted, MediaType mediaType) {
+        double quality = 0;
+        for (MediaType type : accepted) {
+            if (type.includes(mediaType)) {
+                quality = Math.max(quality, type.getQualityValue());
+            }
+        }
+        return quality;
+    }
+}
@@ -1,26 +1,76 @@
 package com.S17Challenge.SpringRestAPI.validation;
 
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.exceptions.ApiErrors;
 import com.S17Challenge.SpringRestAPI.exceptions.ApiExceptions;
+import com.S17Challenge.SpringRestAPI.service.GpaCalculator;
 import org.springframework.http.HttpStatus;
 
+import java.util.List;
+
 // static kullanarak sınıfın bir örneğine ihtiya. duymadan doğrudan erişmemizi sağlar. örnek "CourseValidation.checkName("Mathematics");"
+// Mesajı sabit olan hatalar her seferinde yeniden oluşturulmaz, ApiErrors içindeki hazır nesneler fırlatılır.
 public class CourseValidation {
 
+    // İsim ve not uzunluğu sınırları. Her kursun log ve snapshot dosyalarındaki boyutu (bkz. CourseCodec) ve arama indeksinin
+    // bir isim için ürettiği parça sayısı bu sayede küçük kalır.
+    public static final int MAX_NAME_LENGTH = 255;
+    public static final int MAX_NOTE_LENGTH = 255;
+
     public static void checkName(String name) {
         if (name == null || name.isEmpty()) {
-            throw new ApiExceptions("Name cannot be null or empty", HttpStatus.BAD_REQUEST);
+            throw ApiErrors.NAME_REQUIRED;
+        }
+        if (name.length() > MAX_NAME_LENGTH) {
+            throw ApiErrors.NAME_TOO_LONG;
         }
     }
 
     public static void checkCredit(Integer credit){
-        if (credit == null || credit < 0 || credit > 4){
-            throw new ApiExceptions("Credit must be between 0 and 4!",HttpStatus.BAD_REQUEST);
+        if (credit == null || credit < GpaCalculator.MIN_CREDIT || credit > GpaCalculator.MAX_CREDIT){
+            throw ApiErrors.CREDIT_OUT_OF_RANGE;
+        }
+    }
+
+    public static void checkGrade(Grade grade){
+        if (grade == null || grade.getCoefficient() == null){
+            throw ApiErrors.GRADE_REQUIRED;
+        }
+        if (grade.getNote() != null && grade.getNote().length() > MAX_NOTE_LENGTH){
+            throw ApiErrors.NOTE_TOO_LONG;
+        }
+    }
+
+    public static void checkBatchSize(List<?> batch){
+        if (batch == null || batch.isEmpty() || batch.size() > 10000){
+            throw ApiErrors.BATCH_SIZE_OUT_OF_RANGE;
+        }
+    }
+
+    public static void checkPageSize(int size){
+        if (size < 1 || size > 1000){
+            throw ApiErrors.PAGE_SIZE_OUT_OF_RANGE;
+        }
+    }
+
+    public static void checkSearch(String query, int limit){
+        if (query == null || query.isBlank()){
+            throw ApiErrors.QUERY_REQUIRED;
+        }
+        if (query.length() > MAX_NAME_LENGTH){
+            throw ApiErrors.QUERY_TOO_LONG; // bulanık aramada taranan parça sayısı sorgu uzunluğuyla sınırlı kalsın
+        }
+        if (limit < 1 || limit > 100){
+            throw ApiErrors.SEARCH_LIMIT_OUT_OF_RANGE;
         }
     }
 
     public static void checkId(Integer id){
-        if (id == null || id < 0){
-            throw new ApiExceptions("ID cannot be null or less than zero ID = "+id,HttpStatus.BAD_REQUEST);
+        if (id == null){
+            throw ApiErrors.ID_REQUIRED;
+        }
+        if (id < 0){
+            throw new ApiExceptions("ID cannot be null or less than zero ID = "+id,HttpStatus.BAD_REQUEST,"id");
         }
     }
 
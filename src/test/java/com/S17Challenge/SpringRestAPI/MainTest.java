@@ -15,6 +15,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import static org.hamcrest.Matchers.is;
@@ -69,6 +71,59 @@ class MainTest {
                 .andExpect(jsonPath("$.course.name", is(newCourse.getName())));
     }
 
+    @Test
+    void testCreateCoursesBatch() throws Exception {
+        List<Course> batch = List.of(
+                new Course(101, "Batch Kurs 1", 2, new Grade(2, "B")),
+                new Course(102, "Batch Kurs 2", 4, new Grade(1, "A")),
+                new Course(103, "batch kurs 1", 3, new Grade(1, "A")), // liste içinde aynı isim
+                new Course(104, "Batch Kurs 4", 7, new Grade(1, "A"))); // geçersiz kredi
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus()) // bazı kurslar hatalı olduğu için 207 bekleriz.
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.failed", is(2)))
+                .andExpect(jsonPath("$.results[0].totalGpa", is(12))) // 2 * 2 * lowCourseGpa(3)
+                .andExpect(jsonPath("$.results[1].totalGpa", is(40))) // 1 * 4 * highCourseGpa(10)
+                .andExpect(jsonPath("$.results[2].status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.results[3].status", is(HttpStatus.BAD_REQUEST.value())));
+    }
+
+    @Test
+    void testCreateCoursesBatchWithDuplicateId() throws Exception {
+        List<Course> batch = List.of(
+                new Course(111, "Batch Kurs 11", 2, new Grade(2, "B")),
+                new Course(111, "Batch Kurs 12", 2, new Grade(2, "B")), // liste içinde aynı id
+                new Course(112, "Batch Kurs 12", 2, new Grade(2, "B"))); // reddedilen kursun ismi kullanılabilmeli
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.created", is(2)))
+                .andExpect(jsonPath("$.results[1].status", is(HttpStatus.BAD_REQUEST.value())))
+                .andExpect(jsonPath("$.results[2].status", is(HttpStatus.CREATED.value())));
+    }
+
+    @Test
+    void testGetCourseStats() throws Exception {
+        mockMvc.perform(get("/courses/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courseCount", greaterThanOrEqualTo(1))) // setUp içinde en az bir kurs eklendi.
+                .andExpect(jsonPath("$.byCredit['3'].tier", is("mediumCourseGpa")))
+                .andExpect(jsonPath("$.byCredit['3'].courseCount", greaterThanOrEqualTo(1)));
+    }
+
+    @Test
+    void testSearchCoursesByPrefix() throws Exception {
+        mockMvc.perform(get("/courses/search").param("q", "introduction"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].name", is(course.getName()))); // önek büyük/küçük harf duyarsız eşleşmeli.
+
+        mockMvc.perform(get("/courses/search").param("q", " "))
+                .andExpect(status().isBadRequest()); // boş sorgu 400 dönmeli.
+    }
+
     @Test
     void testHandleApiException() throws Exception {
         mockMvc.perform(get("/courses/{name}", "testCourseName")) // Başına / eklendi
@@ -90,6 +145,49 @@ class MainTest {
                 .andExpect(jsonPath("$.status").value(HttpStatus.BAD_REQUEST.value())); // JSON yapısındaki status alanının 400 olduğunu kontrol eder.
     }
 
+    @Test
+    void testCreateCourseWithTooLongName() throws Exception {
+        Course longName = new Course(3, "a".repeat(256), 3, new Grade(1, "A"));
+        mockMvc.perform(post("/courses")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(longName)))
+                .andExpect(status().isBadRequest());
+
+        longName.setName("a".repeat(255)); // sınırdaki isim reddedilmemeli, önceki istek ismi rezerve etmiş olmamalı
+        mockMvc.perform(post("/courses")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(longName)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void testCreateCoursesBatchWithTooLongNote() throws Exception {
+        List<Course> batch = List.of(
+                new Course(121, "Batch Note 1", 3, new Grade(1, "n".repeat(256))),
+                new Course(122, "Batch Note 2", 3, new Grade(1, "n".repeat(255)))); // sınırdaki not kabul edilmeli
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus())
+                .andExpect(jsonPath("$.results[0].status", is(400)))
+                .andExpect(jsonPath("$.results[1].status", is(201)));
+    }
+
+    @Test
+    void testCreateAndUpdateCourseWithoutGrade() throws Exception {
+        Course noGrade = new Course(131, "No Grade", 3, null);
+        mockMvc.perform(post("/courses")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(noGrade)))
+                .andExpect(status().isBadRequest()); // batch ile aynı kural: 500 değil 400 dönmeli.
+
+        Course noCoefficient = new Course(course.getId(), course.getName(), 3, new Grade(null, "A"));
+        mockMvc.perform(put("/courses/{id}", course.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(noCoefficient)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void testGetAllCourses() throws Exception {
         mockMvc.perform(get("/courses"))
@@ -98,6 +196,28 @@ class MainTest {
         // Yani, en az bir kursun mevcut olup olmadığını doğrular.
     }
 
+    @Test
+    void testGetCoursePage() throws Exception {
+        mockMvc.perform(get("/courses/page").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.courses", hasSize(1))) // sayfa boyutu kadar kurs dönmeli.
+                .andExpect(jsonPath("$.nextCursor").isNumber()); // dolu bir sayfadan sonra bir sonraki sayfanın cursor'ı dönmeli.
+
+        mockMvc.perform(get("/courses/page").param("size", "0"))
+                .andExpect(status().isBadRequest()); // geçersiz sayfa boyutu 400 dönmeli.
+    }
+
+    @Test
+    void testGetAllCoursesNotModified() throws Exception {
+        String etag = mockMvc.perform(get("/courses"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/courses").header("If-None-Match", etag))
+                .andExpect(status().isNotModified()); // katalog değişmediyse 304 dönmeli.
+    }
+
     @Test
     void testGetCourseByName() throws Exception {
         mockMvc.perform(get("/courses/{name}", course.getName()))
@@ -105,6 +225,13 @@ class MainTest {
                 .andExpect(jsonPath("$.name",is(course.getName()))); // JSON yapısındaki name alanının, istenen kursun adını (course.getName()) doğru bir şekilde döndürdüğünü kontrol eder.
     }
 
+    @Test
+    void testGetCourseByNameAsCbor() throws Exception {
+        mockMvc.perform(get("/courses/{name}", course.getName()).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR)); // Accept başlığına göre CBOR dönmeli.
+    }
+
     @Test
     void testUpdateCourse() throws Exception {
         course.setName("Advanced Spring");
@@ -114,6 +241,45 @@ class MainTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    void testUpdateCourseWithStaleIfMatch() throws Exception {
+        course.setName("Advanced Spring");
+        mockMvc.perform(put("/courses/{id}",course.getId())
+                        .header("If-Match", "\"stale-c0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(course)))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    void testUpdateCourseWithIfMatchList() throws Exception {
+        Course versioned = new Course(7001, "Versioned Course", 3, new Grade(1, "A"));
+        createCourse(versioned);
+        String etag = mockMvc.perform(get("/courses/{name}", versioned.getName()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        versioned.setName("Versioned Course 2");
+        mockMvc.perform(put("/courses/{id}", versioned.getId())
+                        .header("If-Match", "W/" + etag) // If-Match güçlü karşılaştırır, zayıf etiket uymamalı.
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(versioned)))
+                .andExpect(status().isPreconditionFailed());
+
+        String newEtag = mockMvc.perform(put("/courses/{id}", versioned.getId())
+                        .header("If-Match", "\"stale-c0\", " + etag) // listedeki herhangi bir etiket uyması yeterli.
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(versioned)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name", is("Versioned Course 2")))
+                .andReturn().getResponse().getHeader("ETag");
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        // yanıttaki ETag, GET ile okunan güncel kaydın ETag'i ile aynı olmalı.
+        mockMvc.perform(get("/courses/{name}", versioned.getName()))
+                .andExpect(header().string("ETag", newEtag));
+    }
+
     @Test
     void testDeleteCourse() throws Exception {
         mockMvc.perform(delete("/courses/{id}",course.getId()))
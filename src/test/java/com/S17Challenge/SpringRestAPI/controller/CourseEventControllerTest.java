@@ -0,0 +1,110 @@
+package com.S17Challenge.SpringRestAPI.controller;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import com.S17Challenge.SpringRestAPI.service.CourseEventLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GET /courses/events (servlet, SseEmitter) testleri. SSE akışı bitmediği için gerçek bir port üzerinde çalışır ve
+// sadece beklenen sayıda olay okunur. Halka küçük tutulur ki geride kalan abone az sayıda yazma ile reset alsın.
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {"course.events.capacity=4", "course.events.poll-interval-ms=10"})
+class CourseEventControllerTest {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT = new ParameterizedTypeReference<>() {
+    };
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private CourseRepository courses;
+
+    @Autowired
+    private CourseEventLog eventLog;
+
+    @Test
+    void resumesAfterLastEventId() {
+        long start = eventLog.latestSequence();
+        courses.add(course(6001, "Event Course 1"));
+        courses.add(course(6002, "Event Course 2"));
+
+        List<ServerSentEvent<String>> events = read(client.get().uri("/courses/events")
+                .header("Last-Event-ID", eventLog.eventId(start + 1)), 1);
+
+        assertThat(events.get(0).event()).isEqualTo(CourseEventLog.ADDED);
+        assertThat(events.get(0).id()).isEqualTo(eventLog.eventId(start + 2));
+        assertThat(events.get(0).data()).contains("Event Course 2");
+    }
+
+    @Test
+    void resumesFromSequenceParameter() {
+        long start = eventLog.latestSequence();
+        courses.add(course(6101, "Event Course 3"));
+        courses.update(6101, course(6101, "Event Course 3b"));
+
+        List<ServerSentEvent<String>> events = read(client.get().uri("/courses/events?from={from}", start), 2);
+
+        assertThat(events).extracting(ServerSentEvent::event).containsExactly(CourseEventLog.ADDED, CourseEventLog.UPDATED);
+        assertThat(events.get(1).data()).contains("Event Course 3b");
+    }
+
+    @Test
+    void sendsResetAndClosesWhenResumePointWasOverwritten() {
+        long start = eventLog.latestSequence();
+        for (int id = 6201; id <= 6206; id++) { // halka 4 olay tutar
+            courses.add(course(id, "Event Reset " + id));
+        }
+
+        List<ServerSentEvent<String>> events = client.get().uri("/courses/events?from={from}", start)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EVENT)
+                .getResponseBody()
+                .collectList() // reset olayından sonra sunucu akışı kapatır
+                .block(TIMEOUT);
+
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).event()).isEqualTo("reset");
+        assertThat(events.get(0).id()).isEqualTo(eventLog.eventId(eventLog.latestSequence()));
+        assertThat(events.get(0).data()).isEqualTo(String.valueOf(eventLog.latestSequence()));
+    }
+
+    @Test
+    void sendsResetForLastEventIdFromAnotherStartup() {
+        List<ServerSentEvent<String>> events = read(client.get().uri("/courses/events")
+                .header("Last-Event-ID", "0000-1"), 1);
+
+        assertThat(events.get(0).event()).isEqualTo("reset");
+    }
+
+    private static List<ServerSentEvent<String>> read(WebTestClient.RequestHeadersSpec<?> request, int count) {
+        return request.accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EVENT)
+                .getResponseBody()
+                .filter(event -> event.event() != null) // keep-alive yorumlarını atla
+                .take(count)
+                .collectList()
+                .block(TIMEOUT);
+    }
+
+    private static Course course(int id, String name) {
+        return new Course(id, name, 3, new Grade(1, "A"));
+    }
+}
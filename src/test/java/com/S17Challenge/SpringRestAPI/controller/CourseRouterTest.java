@@ -0,0 +1,170 @@
+package com.S17Challenge.SpringRestAPI.controller;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.service.CourseEventLog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// WebFlux (reactive) modundaki /courses yollarını test eder: CourseRouter + CourseHandler.
+// Hataların servlet sürümü ile aynı status ve ApiErrorResponse gövdesi ile döndüğü de burada doğrulanır.
+@SpringBootTest(properties = "spring.main.web-application-type=reactive")
+@AutoConfigureWebTestClient
+class CourseRouterTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private CourseEventLog eventLog;
+
+    @Test
+    void createsReadsUpdatesAndDeletesCourse() {
+        Course course = new Course(8001, "Reactive Spring", 3, new Grade(1, "A"));
+        client.post().uri("/courses").bodyValue(course).exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.course.name").isEqualTo("Reactive Spring");
+
+        String etag = client.get().uri("/courses/{name}", "reactive spring").exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.id").isEqualTo(8001)
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        course.setName("Reactive Spring 2");
+        String newEtag = client.put().uri("/courses/{id}", 8001).header(HttpHeaders.IF_MATCH, etag).bodyValue(course).exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.name").isEqualTo("Reactive Spring 2")
+                .returnResult().getResponseHeaders().getETag();
+        assertThat(newEtag).isNotEqualTo(etag);
+
+        client.get().uri("/courses/{name}", "Reactive Spring 2").header(HttpHeaders.IF_NONE_MATCH, newEtag).exchange()
+                .expectStatus().isNotModified();
+
+        client.delete().uri("/courses/{id}", 8001).exchange().expectStatus().isOk();
+        client.delete().uri("/courses/{id}", 8001).exchange().expectStatus().isNotFound();
+    }
+
+    @Test
+    void returnsNotModifiedForUnchangedCatalog() {
+        client.post().uri("/courses").bodyValue(new Course(8101, "Reactive Catalog", 2, new Grade(1, "A"))).exchange()
+                .expectStatus().isCreated();
+
+        String etag = client.get().uri("/courses").exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody().returnResult().getResponseHeaders().getETag();
+        assertThat(etag).isNotNull();
+
+        client.get().uri("/courses").header(HttpHeaders.IF_NONE_MATCH, etag).exchange()
+                .expectStatus().isNotModified();
+        client.get().uri("/courses").accept(MediaType.APPLICATION_CBOR).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void pagesAndStreamsCoursesInIdOrder() {
+        client.post().uri("/courses/batch")
+                .bodyValue(List.of(
+                        new Course(8201, "Reactive Page 1", 2, new Grade(1, "A")),
+                        new Course(8202, "Reactive Page 2", 2, new Grade(1, "A"))))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody().jsonPath("$.created").isEqualTo(2);
+
+        client.get().uri("/courses/page?after=8200&size=1").exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.courses[0].id").isEqualTo(8201)
+                .jsonPath("$.nextCursor").isEqualTo(8201);
+
+        List<Course> streamed = client.get().uri("/courses/stream").accept(MediaType.APPLICATION_NDJSON).exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(Course.class).returnResult().getResponseBody();
+        assertThat(streamed).extracting(Course::getId).contains(8201, 8202).isSorted();
+    }
+
+    @Test
+    void mapsValidationErrorsToApiErrorResponse() {
+        client.post().uri("/courses").bodyValue(new Course(8301, "Reactive Invalid", 7, new Grade(1, "A"))).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(400)
+                .jsonPath("$.message").isEqualTo("Credit must be between 0 and 4!");
+
+        client.get().uri("/courses/{name}", "Reactive Missing").exchange()
+                .expectStatus().isNotFound()
+                .expectBody().jsonPath("$.status").isEqualTo(404);
+
+        client.get().uri("/courses/page?size=0").exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.status").isEqualTo(400);
+
+        client.get().uri("/courses/search?q=" + "a".repeat(256)).exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.status").isEqualTo(400);
+    }
+
+    @Test
+    void mapsPreconditionFailureAndUnexpectedErrors() {
+        Course course = new Course(8401, "Reactive Versioned", 3, new Grade(1, "A"));
+        client.post().uri("/courses").bodyValue(course).exchange().expectStatus().isCreated();
+
+        client.put().uri("/courses/{id}", 8401).header(HttpHeaders.IF_MATCH, "\"stale-c0\"").bodyValue(course).exchange()
+                .expectStatus().isEqualTo(412)
+                .expectBody().jsonPath("$.status").isEqualTo(412);
+
+        // handler'ın senkron fırlattığı beklenmeyen hata (geçersiz id) da ApiErrorResponse gövdesi ile 500 döner.
+        client.delete().uri("/courses/not-a-number").exchange()
+                .expectStatus().is5xxServerError()
+                .expectBody().jsonPath("$.status").isEqualTo(500);
+    }
+
+    @Test
+    void streamsEventsAfterLastEventIdAndResetsForUnknownPosition() {
+        long start = eventLog.latestSequence();
+        client.post().uri("/courses").bodyValue(new Course(8501, "Reactive Event 1", 2, new Grade(1, "A"))).exchange()
+                .expectStatus().isCreated();
+        client.post().uri("/courses").bodyValue(new Course(8502, "Reactive Event 2", 2, new Grade(1, "A"))).exchange()
+                .expectStatus().isCreated();
+
+        ServerSentEvent<String> resumed = client.get().uri("/courses/events")
+                .header("Last-Event-ID", eventLog.eventId(start + 1))
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                })
+                .getResponseBody()
+                .blockFirst(Duration.ofSeconds(10));
+        assertThat(resumed.event()).isEqualTo(CourseEventLog.ADDED);
+        assertThat(resumed.id()).isEqualTo(eventLog.eventId(start + 2));
+        assertThat(resumed.data()).contains("Reactive Event 2");
+
+        // halkada olmayan bir konumdan devam edilemez: tek bir reset olayı gelir ve akış kapanır.
+        List<ServerSentEvent<String>> reset = client.get().uri("/courses/events?from=-5")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(new ParameterizedTypeReference<ServerSentEvent<String>>() {
+                })
+                .getResponseBody()
+                .collectList()
+                .block(Duration.ofSeconds(10));
+        assertThat(reset).extracting(ServerSentEvent::event).containsExactly("reset");
+    }
+}
@@ -0,0 +1,98 @@
+package com.S17Challenge.SpringRestAPI.metrics;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultMatcher;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// course.gpa.tier.hits sayacının sadece başarılı yazmalarda arttığını ve metriklerin Prometheus endpoint'inden okunduğunu doğrular.
+// Spring Boot testlerde metrik dışa aktarımını kapatır; AutoConfigureObservability Prometheus registry'sini geri açar.
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class CourseMetricsTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry registry;
+
+    @Test
+    void countsGpaTierOnlyForSuccessfulWrites() throws Exception {
+        double before = tierHits(3);
+
+        send(post("/courses"), new Course(9001, "Metrics Course", 3, new Grade(1, "A")), status().isCreated());
+        assertThat(tierHits(3)).isEqualTo(before + 1);
+
+        // aynı isimle ikinci ekleme reddedilir, sayaç artmamalı
+        send(post("/courses"), new Course(9002, "metrics course", 3, new Grade(1, "A")), status().isBadRequest());
+        // olmayan kursu güncelleme 404 döner, sayaç artmamalı
+        send(put("/courses/9999"), new Course(9999, "Missing Course", 3, new Grade(1, "A")), status().isNotFound());
+        assertThat(tierHits(3)).isEqualTo(before + 1);
+
+        send(put("/courses/9001"), new Course(9001, "Metrics Course 2", 3, new Grade(1, "B")), status().isOk());
+        assertThat(tierHits(3)).isEqualTo(before + 2);
+    }
+
+    @Test
+    void countsGpaTierOnlyForCreatedBatchItems() throws Exception {
+        double before = tierHits(2);
+
+        List<Course> batch = List.of(
+                new Course(9101, "Metrics Batch 1", 2, new Grade(1, "A")),
+                new Course(9102, "metrics batch 1", 2, new Grade(1, "A")), // liste içinde aynı isim
+                new Course(9101, "Metrics Batch 3", 2, new Grade(1, "A"))); // liste içinde aynı id
+        mockMvc.perform(post("/courses/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isMultiStatus());
+
+        assertThat(tierHits(2)).isEqualTo(before + 1);
+    }
+
+    @Test
+    void exposesCourseMetricsInPrometheusFormat() throws Exception {
+        send(post("/courses"), new Course(9201, "Prometheus Course", 4, new Grade(1, "A")), status().isCreated());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("course_gpa_tier_hits_total{")))
+                .andExpect(content().string(containsString("course_store_size{")))
+                .andExpect(content().string(containsString("http_server_requests_seconds_bucket{")));
+    }
+
+    private double tierHits(int credit) {
+        return registry.get("course.gpa.tier.hits").tag("credit", String.valueOf(credit)).counter().count();
+    }
+
+    private void send(MockHttpServletRequestBuilder request, Course course,
+                      ResultMatcher expected) throws Exception {
+        mockMvc.perform(request
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(course)))
+                .andExpect(expected);
+    }
+}
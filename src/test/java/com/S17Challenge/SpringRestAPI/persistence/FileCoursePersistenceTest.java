@@ -0,0 +1,211 @@
+package com.S17Challenge.SpringRestAPI.persistence;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Write-ahead log ve snapshot dosyalarından geri yükleme testleri. Her test gerçek dosyalarla geçici bir klasörde çalışır.
+class FileCoursePersistenceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversWrittenCoursesAfterReopen() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        assertThat(recover(persistence)).isEmpty();
+        persistence.logUpsert(course(1, "Spring")).join();
+        persistence.logUpsert(course(2, "Java")).join();
+        persistence.logUpsert(course(1, "Spring Boot")).join(); // güncelleme
+        persistence.logDelete(2).join();
+        persistence.close();
+
+        Map<Integer, CourseRecord> state = reopenAndClose(1000);
+        assertThat(state).containsOnlyKeys(1);
+        assertThat(state.get(1).name()).isEqualTo("Spring Boot");
+        assertThat(state.get(1).note()).isEqualTo("A");
+    }
+
+    @Test
+    void recoversFromSnapshotAndTailSegment() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 2, true);
+        recover(persistence);
+        for (int id = 1; id <= 5; id++) {
+            persistence.logUpsert(course(id, "Course " + id)).join(); // her grup tek kayıt, 2 kayıtta bir yeni log dosyası
+        }
+        persistence.logDelete(3).join();
+        persistence.close(); // snapshot thread'inin bitmesini de bekler
+
+        assertThat(files("snapshot-")).isNotEmpty();
+
+        Map<Integer, CourseRecord> state = reopenAndClose(2);
+        assertThat(state).containsOnlyKeys(1, 2, 4, 5);
+        assertThat(state.get(5).name()).isEqualTo("Course 5");
+    }
+
+    @Test
+    void ignoresTornLastFrameAndKeepsLaterWrites() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        recover(persistence);
+        persistence.logUpsert(course(1, "Spring")).join();
+        persistence.logUpsert(course(2, "Java")).join();
+        persistence.close();
+
+        // çökme sırasında yarım kalmış bir kayıt: başlık 50 byte diyor ama sadece 10 byte yazılmış
+        ByteBuffer torn = ByteBuffer.allocate(18).putInt(50).putInt(0x1234);
+        Files.write(lastSegment(), torn.array(), StandardOpenOption.APPEND);
+
+        persistence = new FileCoursePersistence(directory, 1000, true);
+        assertThat(recover(persistence)).containsOnlyKeys(1, 2);
+        persistence.logUpsert(course(3, "Kotlin")).join(); // yarım kaydın arkasına değil, yeni log dosyasına yazılır
+        persistence.close();
+
+        assertThat(reopenAndClose(1000)).containsOnlyKeys(1, 2, 3);
+    }
+
+    @Test
+    void ignoresFrameWithOversizedLength() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        recover(persistence);
+        persistence.logUpsert(course(1, "Spring")).join();
+        persistence.close();
+
+        ByteBuffer corrupted = ByteBuffer.allocate(8).putInt(Integer.MAX_VALUE).putInt(0);
+        Files.write(lastSegment(), corrupted.array(), StandardOpenOption.APPEND);
+
+        assertThat(reopenAndClose(1000)).containsOnlyKeys(1);
+    }
+
+    @Test
+    void groupCommitsConcurrentWrites() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 100_000, true);
+        recover(persistence);
+
+        int threads = 16;
+        int writesPerThread = 200;
+        ExecutorService writers = Executors.newFixedThreadPool(threads);
+        List<CompletableFuture<Void>> logged = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            int first = t * writesPerThread;
+            logged.add(CompletableFuture.runAsync(() -> {
+                for (int id = first; id < first + writesPerThread; id++) {
+                    persistence.logUpsert(course(id, "Course " + id)).join(); // fsync bitene kadar bekler
+                }
+            }, writers));
+        }
+        CompletableFuture.allOf(logged.toArray(new CompletableFuture[0])).get(60, TimeUnit.SECONDS);
+        writers.shutdown();
+        persistence.close();
+
+        assertThat(reopenAndClose(100_000)).hasSize(threads * writesPerThread);
+    }
+
+    @Test
+    void rejectsWritesAfterClose() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        recover(persistence);
+        persistence.close();
+
+        CompletableFuture<Void> logged = persistence.logUpsert(course(1, "Spring"));
+        assertThat(logged).isCompletedExceptionally(); // beklemeden hata ile dönmeli, asılı kalmamalı
+    }
+
+    @Test
+    void storesStringsLongerThanWriteUtfLimit() throws Exception {
+        String note = "n".repeat(70_000); // writeUTF en fazla 65535 byte yazabilir
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        recover(persistence);
+        persistence.logUpsert(CourseRecord.of(1, "Spring", 3, 1, note, 0)).join();
+        persistence.close();
+
+        assertThat(reopenAndClose(1000).get(1).note()).isEqualTo(note);
+    }
+
+    @Test
+    void readsRecordsWrittenWithLegacyFormat() throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, 1000, true);
+        recover(persistence);
+        persistence.logUpsert(course(1, "Spring")).join();
+        persistence.close();
+
+        // eski sürümün yazdığı kayıt: op 1, metinler writeUTF ile
+        ByteArrayOutputStream payload = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(payload);
+        out.writeByte(1);
+        out.writeInt(2);
+        out.writeInt(2);
+        out.writeUTF("Java");
+        out.writeByte(3);
+        out.writeByte(1 | 2 | 4);
+        out.writeInt(1);
+        out.writeUTF("B");
+        byte[] body = payload.toByteArray();
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        ByteBuffer frame = ByteBuffer.allocate(8 + body.length).putInt(body.length).putInt((int) crc.getValue()).put(body);
+        Files.write(lastSegment(), frame.array(), StandardOpenOption.APPEND);
+
+        Map<Integer, CourseRecord> state = reopenAndClose(1000);
+        assertThat(state).containsOnlyKeys(1, 2);
+        assertThat(state.get(2).name()).isEqualTo("Java");
+        assertThat(state.get(2).note()).isEqualTo("B");
+    }
+
+    private Map<Integer, CourseRecord> reopenAndClose(int segmentRecords) throws Exception {
+        FileCoursePersistence persistence = new FileCoursePersistence(directory, segmentRecords, true);
+        Map<Integer, CourseRecord> state = recover(persistence);
+        persistence.close();
+        return state;
+    }
+
+    private static Map<Integer, CourseRecord> recover(FileCoursePersistence persistence) {
+        Map<Integer, CourseRecord> state = new LinkedHashMap<>();
+        persistence.recover(new CourseLogReplay() {
+            @Override
+            public void upsert(CourseRecord course) {
+                state.put(course.id(), course);
+            }
+
+            @Override
+            public void remove(Integer id) {
+                state.remove(id);
+            }
+        });
+        return state;
+    }
+
+    private Path lastSegment() throws IOException {
+        List<Path> segments = files("wal-");
+        return segments.get(segments.size() - 1);
+    }
+
+    private List<Path> files(String prefix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix)).sorted().toList();
+        }
+    }
+
+    private static CourseRecord course(int id, String name) {
+        return CourseRecord.of(id, name, 3, 1, "A", 0);
+    }
+}
@@ -0,0 +1,82 @@
+package com.S17Challenge.SpringRestAPI.ratelimit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GCRA hız sınırlayıcı testleri. Zaman parametre olarak verildiği için testler saate bağlı değildir.
+class ClientRateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    @Test
+    void allowsBurstThenRateAndReportsWait() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 2, 100);
+
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isZero();
+        assertThat(limiter.tryAcquire("a", 0)).isEqualTo(SECOND); // kova boş, bir aralık beklemeli
+        assertThat(limiter.tryAcquire("b", 0)).isZero(); // diğer istemciler etkilenmez
+        assertThat(limiter.tryAcquire("a", SECOND)).isZero();
+    }
+
+    @Test
+    void sweepKeepsBusyClientsLimited() {
+        ClientRateLimiter limiter = new ClientRateLimiter(1, 1, 1);
+        long base = System.nanoTime(); // temizlik aralığı oluşturulma anından itibaren sayılır
+        assertThat(limiter.tryAcquire("busy", base + 2 * SECOND)).isZero();
+
+        // yeni istemci temizliği tetikler; "busy" kovası boşta olmadığı için silinmemeli
+        assertThat(limiter.tryAcquire("other", base + 2 * SECOND + SECOND / 2)).isZero();
+        assertThat(limiter.tryAcquire("busy", base + 2 * SECOND + SECOND / 2)).isPositive();
+    }
+
+    // Temizlik bir istemcinin kaydını silerken aynı istemcinin istekleri eski kayıt üzerinde CAS yapıyor olabilir.
+    // Silinen kayda yazılan izin kaybolursa istemci yeni bir dolu kova alır ve aynı anda burst'ten fazla istek geçer.
+    @Test
+    void concurrentSweepNeverAdmitsMoreThanBurst() throws Exception {
+        int burst = 2;
+        int attempts = 4;
+        ClientRateLimiter limiter = new ClientRateLimiter(1, burst, 1);
+        ExecutorService threads = Executors.newFixedThreadPool(attempts + 1);
+        long base = System.nanoTime();
+        try {
+            for (int round = 1; round <= 2000; round++) {
+                long now = base + round * 10 * SECOND; // her turda "x" boşta ve kovası dolu, temizlik de tetiklenebilir
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> admitted = new ArrayList<>();
+                for (int i = 0; i < attempts; i++) {
+                    admitted.add(threads.submit(() -> {
+                        start.await();
+                        return limiter.tryAcquire("x", now) == 0;
+                    }));
+                }
+                String newcomer = "client-" + round;
+                Future<?> sweep = threads.submit(() -> {
+                    start.await();
+                    return limiter.tryAcquire(newcomer, now);
+                });
+                start.countDown();
+                sweep.get(5, TimeUnit.SECONDS);
+
+                int count = 0;
+                for (Future<Boolean> result : admitted) {
+                    if (result.get(5, TimeUnit.SECONDS)) {
+                        count++;
+                    }
+                }
+                assertThat(count).as("round %d", round).isLessThanOrEqualTo(burst);
+            }
+        } finally {
+            threads.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.S17Challenge.SpringRestAPI.ratelimit;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Yazma isteklerinin hız ve eşzamanlılık sınırlarını test eder. Her istemci tek bir istek hakkıyla başlar ve hakkı
+// pratikte hiç dolmaz (1000 saniyede bir); aynı anda tek bir yazma işlenebilir. Testler birbirini etkilemesin diye
+// her test kendi istemci id'sini kullanır.
+@SpringBootTest(properties = {
+        "course.rate-limit.permits-per-second=0.001",
+        "course.rate-limit.burst=1",
+        "course.rate-limit.max-concurrent-writes=1",
+        "course.rate-limit.client-header=X-Client-Id"})
+@AutoConfigureMockMvc
+class CourseWriteAdmissionFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private FilterRegistrationBean<CourseWriteAdmissionFilter> registration;
+
+    @Test
+    void rejectsClientOverRateWithRetryAfter() throws Exception {
+        postCourse("client-rate", new Course(5001, "Rate Limited 1", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+
+        postCourse("client-rate", new Course(5002, "Rate Limited 2", 3, new Grade(1, "A")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().longValue(HttpHeaders.RETRY_AFTER, greaterThan(0L)))
+                .andExpect(jsonPath("$.status").value(429))
+                .andExpect(jsonPath("$.message").value("Too many requests, please retry later"));
+
+        // diğer istemciler ve okuma istekleri etkilenmez
+        postCourse("client-rate-other", new Course(5003, "Rate Limited 3", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/courses").header("X-Client-Id", "client-rate"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void concurrencyRejectionDoesNotSpendRateToken() throws Exception {
+        CourseWriteAdmissionFilter filter = registration.getFilter();
+        MockHttpServletResponse busy = new MockHttpServletResponse();
+
+        // ilk yazma işlenirken (tek izin onda) ikinci istemcinin isteği gelir
+        filter.doFilter(writeRequest("client-holder"), new MockHttpServletResponse(),
+                (request, response) -> filter.doFilter(writeRequest("client-busy"), busy, (inner, innerResponse) -> {
+                    throw new AssertionError("eşzamanlılık sınırı aşılmışken istek işlenmemeli");
+                }));
+        assertThat(busy.getStatus()).isEqualTo(429);
+        assertThat(busy.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+        assertThat(busy.getContentAsString()).contains("Too many concurrent course writes");
+
+        // reddedilen istek token harcamadığı için istemcinin tek hakkı hâlâ duruyor
+        postCourse("client-busy", new Course(5101, "Admission Busy", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void releasesPermitWhenChainFails() throws Exception {
+        CourseWriteAdmissionFilter filter = registration.getFilter();
+        assertThatThrownBy(() -> filter.doFilter(writeRequest("client-failing"), new MockHttpServletResponse(),
+                (request, response) -> {
+                    throw new ServletException("handler failed");
+                })).isInstanceOf(ServletException.class);
+
+        // tek izin geri verilmemiş olsaydı bu istek 429 alırdı
+        postCourse("client-after-failure", new Course(5201, "Admission Released", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void releasesPermitWhenRateLimited() throws Exception {
+        postCourse("client-limited", new Course(5301, "Admission Limited 1", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+        postCourse("client-limited", new Course(5302, "Admission Limited 2", 3, new Grade(1, "A")))
+                .andExpect(status().isTooManyRequests());
+
+        postCourse("client-limited-other", new Course(5303, "Admission Limited 3", 3, new Grade(1, "A")))
+                .andExpect(status().isCreated());
+    }
+
+    private ResultActions postCourse(String client, Course course) throws Exception {
+        return mockMvc.perform(post("/courses")
+                .header("X-Client-Id", client)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(course)));
+    }
+
+    private static MockHttpServletRequest writeRequest(String client) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/courses");
+        request.addHeader("X-Client-Id", client);
+        return request;
+    }
+}
@@ -0,0 +1,189 @@
+package com.S17Challenge.SpringRestAPI.repository;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseEvent;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.persistence.CourseLogReplay;
+import com.S17Challenge.SpringRestAPI.persistence.CoursePersistence;
+import com.S17Challenge.SpringRestAPI.persistence.FileCoursePersistence;
+import com.S17Challenge.SpringRestAPI.service.CourseEventLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Log yazması başarısız olduğunda değişikliğin bellekte görünmediğini ve dinleyicilere bildirilmediğini doğrular.
+class CourseRepositoryTest {
+
+    private final FailingPersistence persistence = new FailingPersistence();
+    private final List<String> events = new ArrayList<>();
+    private final List<Boolean> stableDuringPublish = new ArrayList<>();
+    private CourseRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("recordingListener", new CourseChangeListener() {
+            @Override
+            public void onAdded(CourseRecord course) {
+                events.add("added " + course.name());
+                // değişiklik yarımken okunan sürüm sabit sayılmamalı
+                stableDuringPublish.add(repository.unchangedSince(repository.version()));
+            }
+
+            @Override
+            public void onUpdated(CourseRecord oldCourse, CourseRecord newCourse) {
+                events.add("updated " + newCourse.name());
+            }
+
+            @Override
+            public void onRemoved(CourseRecord course) {
+                events.add("removed " + course.name());
+            }
+        });
+        repository = new CourseRepository(beans.getBeanProvider(CourseChangeListener.class), persistence);
+    }
+
+    @Test
+    void failedAddIsNotVisibleAndReleasesName() {
+        persistence.failing = true;
+        assertThatThrownBy(() -> repository.add(course(1, "Spring"))).isInstanceOf(CompletionException.class);
+
+        assertThat(repository.findById(1)).isEmpty();
+        assertThat(repository.findByName("Spring")).isEmpty();
+        assertThat(repository.version()).isZero();
+        assertThat(events).isEmpty();
+
+        persistence.failing = false;
+        assertThat(repository.add(course(2, "Spring"))).isTrue(); // isim rezervasyonu geri alınmış olmalı
+        assertThat(events).containsExactly("added Spring");
+    }
+
+    @Test
+    void failedUpdateAndDeleteKeepPreviousState() {
+        repository.add(course(1, "Spring"));
+        events.clear();
+        long version = repository.version();
+
+        persistence.failing = true;
+        assertThatThrownBy(() -> repository.update(1, course(1, "Java"))).isInstanceOf(CompletionException.class);
+        assertThatThrownBy(() -> repository.deleteById(1)).isInstanceOf(CompletionException.class);
+
+        assertThat(repository.findByName("Spring")).isPresent();
+        assertThat(repository.findByName("Java")).isEmpty();
+        assertThat(repository.version()).isEqualTo(version);
+        assertThat(events).isEmpty();
+
+        persistence.failing = false;
+        assertThat(repository.add(course(2, "Java"))).isTrue(); // yeni isim rezervasyonu da geri alınmış olmalı
+    }
+
+    @Test
+    void renameFreesOldNameAfterPublishing() {
+        repository.add(course(1, "Spring"));
+        assertThat(repository.update(1, course(1, "Spring Boot"))).isEqualTo(CourseRepository.UpdateResult.UPDATED);
+
+        assertThat(repository.findByName("Spring")).isEmpty();
+        assertThat(repository.findByName("spring boot")).isPresent();
+        assertThat(repository.add(course(2, "Spring"))).isTrue();
+    }
+
+    @Test
+    void updateReturnsWrittenRecordAndChecksAllExpectedVersions() {
+        repository.add(course(1, "Spring"));
+        long version = repository.findRecordById(1).orElseThrow().version();
+
+        CourseRepository.UpdateOutcome mismatch = repository.update(1, course(1, "Java"), new long[]{version + 100});
+        assertThat(mismatch.result()).isEqualTo(CourseRepository.UpdateResult.VERSION_MISMATCH);
+        assertThat(mismatch.course()).isNull();
+        assertThat(repository.update(1, course(1, "Java"), new long[0]).result())
+                .isEqualTo(CourseRepository.UpdateResult.VERSION_MISMATCH);
+
+        CourseRepository.UpdateOutcome updated = repository.update(1, course(1, "Java"), new long[]{version + 100, version});
+        assertThat(updated.result()).isEqualTo(CourseRepository.UpdateResult.UPDATED);
+        assertThat(updated.course().name()).isEqualTo("Java");
+        assertThat(updated.course()).isSameAs(repository.findRecordById(1).orElseThrow());
+    }
+
+    @Test
+    void catalogVersionIsStableOnlyWhenNoChangeIsInProgress() {
+        long before = repository.version();
+        assertThat(repository.unchangedSince(before)).isTrue();
+
+        repository.add(course(1, "Spring"));
+
+        assertThat(stableDuringPublish).containsExactly(false);
+        assertThat(repository.unchangedSince(before)).isFalse();
+        assertThat(repository.unchangedSince(repository.version())).isTrue();
+    }
+
+    @Test
+    void recoveryDoesNotPublishEvents(@TempDir Path directory) throws Exception {
+        FileCoursePersistence first = new FileCoursePersistence(directory, 1000, true);
+        CourseEventLog firstEvents = new CourseEventLog(8);
+        CourseRepository before = repositoryWith(first, firstEvents);
+        before.recover();
+        before.add(course(1, "Spring"));
+        before.add(course(2, "Java"));
+        before.update(2, course(2, "Kotlin"));
+        assertThat(firstEvents.latestSequence()).isEqualTo(3);
+        first.close();
+
+        FileCoursePersistence second = new FileCoursePersistence(directory, 1000, true);
+        CourseEventLog events = new CourseEventLog(8);
+        CourseRepository restarted = repositoryWith(second, events);
+        restarted.recover();
+
+        assertThat(restarted.findByName("Kotlin")).isPresent(); // katalog geri yüklendi
+        assertThat(events.latestSequence()).isZero(); // ama olay yayınlanmadı
+
+        restarted.add(course(3, "Scala"));
+        assertThat(events.readAfter(0, 10).events()).extracting(CourseEvent::getType).containsExactly(CourseEventLog.ADDED);
+        second.close();
+    }
+
+    private static CourseRepository repositoryWith(CoursePersistence persistence, CourseChangeListener listener) {
+        StaticListableBeanFactory beans = new StaticListableBeanFactory();
+        beans.addBean("listener", listener);
+        return new CourseRepository(beans.getBeanProvider(CourseChangeListener.class), persistence);
+    }
+
+    private static Course course(int id, String name) {
+        return new Course(id, name, 3, new Grade(1, "A"));
+    }
+
+    // failing açıkken her kayıt IO hatası ile biter (ör. disk dolu).
+    private static final class FailingPersistence implements CoursePersistence {
+
+        private volatile boolean failing;
+
+        @Override
+        public void recover(CourseLogReplay replay) {
+        }
+
+        @Override
+        public CompletableFuture<Void> logUpsert(CourseRecord course) {
+            return result();
+        }
+
+        @Override
+        public CompletableFuture<Void> logDelete(Integer id) {
+            return result();
+        }
+
+        private CompletableFuture<Void> result() {
+            return failing ? CompletableFuture.failedFuture(new IOException("disk full")) : CompletableFuture.completedFuture(null);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.BatchItemResult;
+import com.S17Challenge.SpringRestAPI.entity.BatchResponse;
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.Grade;
+import com.S17Challenge.SpringRestAPI.persistence.CourseLogReplay;
+import com.S17Challenge.SpringRestAPI.persistence.CoursePersistence;
+import com.S17Challenge.SpringRestAPI.repository.CourseRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bir kursun log'a yazılamaması listenin geri kalanını etkilememeli: o kurs 500 ile döner, diğerleri eklenir.
+@SpringBootTest
+class CourseBatchServiceTest {
+
+    // Bu id'li kursun kaydı her zaman IO hatası ile biter.
+    private static final int FAILING_ID = 4242;
+
+    @TestConfiguration
+    static class FailingPersistenceConfig {
+
+        @Bean
+        @Primary
+        CoursePersistence failingCoursePersistence() {
+            return new CoursePersistence() {
+                @Override
+                public void recover(CourseLogReplay replay) {
+                }
+
+                @Override
+                public CompletableFuture<Void> logUpsert(CourseRecord course) {
+                    if (course.id() == FAILING_ID) {
+                        return CompletableFuture.failedFuture(new UncheckedIOException(new IOException("disk full")));
+                    }
+                    return CompletableFuture.completedFuture(null);
+                }
+
+                @Override
+                public CompletableFuture<Void> logDelete(Integer id) {
+                    return CompletableFuture.completedFuture(null);
+                }
+            };
+        }
+    }
+
+    @Autowired
+    private CourseBatchService courseBatchService;
+
+    @Autowired
+    private CourseRepository courses;
+
+    @Test
+    void reportsStorageFailurePerItem() {
+        BatchResponse response = courseBatchService.addAll(List.of(
+                new Course(4241, "Stored Before", 3, new Grade(1, "A")),
+                new Course(FAILING_ID, "Not Stored", 3, new Grade(1, "A")),
+                new Course(4243, "Stored After", 3, new Grade(1, "A"))));
+
+        assertThat(response.getCreated()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(1);
+        assertThat(response.getResults()).extracting(BatchItemResult::getStatus).containsExactly(201, 500, 201);
+        assertThat(courses.findById(FAILING_ID)).isEmpty();
+        assertThat(courses.findById(4241)).isPresent();
+        assertThat(courses.findById(4243)).isPresent();
+    }
+
+    @Test
+    void insertsLargeBatchConcurrently() {
+        List<Course> batch = new ArrayList<>();
+        for (int id = 10_000; id < 12_000; id++) {
+            batch.add(new Course(id, "Bulk Course " + id, 2, new Grade(1, "B")));
+        }
+
+        BatchResponse response = courseBatchService.addAll(batch);
+
+        assertThat(response.getCreated()).isEqualTo(2000);
+        assertThat(courses.findById(11_999)).isPresent();
+    }
+}
@@ -0,0 +1,69 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseEvent;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// Olay halkasının devam etme (Last-Event-ID / from) ve overrun kurallarını test eder.
+class CourseEventLogTest {
+
+    private final CourseEventLog eventLog = new CourseEventLog(4);
+
+    @Test
+    void readsEventsAfterSequenceInOrder() {
+        eventLog.onAdded(course(1, "Spring", 1));
+        eventLog.onUpdated(course(1, "Spring", 1), course(1, "Spring Boot", 2));
+        eventLog.onRemoved(course(1, "Spring Boot", 2));
+
+        CourseEventLog.Batch batch = eventLog.readAfter(1, 10);
+        assertThat(batch.overrun()).isFalse();
+        assertThat(batch.events()).extracting(CourseEvent::getSequence).containsExactly(2L, 3L);
+        assertThat(batch.events()).extracting(CourseEvent::getType)
+                .containsExactly(CourseEventLog.UPDATED, CourseEventLog.REMOVED);
+        assertThat(batch.events().get(0).getCourse().getName()).isEqualTo("Spring Boot");
+
+        assertThat(eventLog.readAfter(0, 2).events()).extracting(CourseEvent::getSequence).containsExactly(1L, 2L);
+        assertThat(eventLog.readAfter(eventLog.latestSequence(), 10).events()).isEmpty(); // yeni olay yok, overrun da değil
+    }
+
+    @Test
+    void resumesFromLastEventIdOfThisStartupOnly() {
+        eventLog.onAdded(course(1, "Spring", 1));
+        eventLog.onAdded(course(2, "Java", 2));
+
+        String lastEventId = eventLog.eventId(1);
+        assertThat(eventLog.sequenceOf(lastEventId)).isEqualTo(1);
+        assertThat(eventLog.readAfter(eventLog.sequenceOf(lastEventId), 10).events())
+                .extracting(event -> event.getCourse().getName()).containsExactly("Java");
+
+        // başka bir açılışın id'si ya da bozuk bir id devam noktası olamaz; -1 okunduğunda abone reset alır.
+        String otherStartup = new CourseEventLog(4).eventId(1);
+        assertThat(eventLog.sequenceOf(otherStartup)).isEqualTo(-1);
+        assertThat(eventLog.sequenceOf("garbage")).isEqualTo(-1);
+        assertThat(eventLog.readAfter(-1, 10).overrun()).isTrue();
+    }
+
+    @Test
+    void reportsOverrunWhenSubscriberFallsBehindTheRing() {
+        for (int id = 1; id <= 6; id++) {
+            eventLog.onAdded(course(id, "Course " + id, id));
+        }
+
+        assertThat(eventLog.readAfter(1, 10).overrun()).isTrue(); // 2. olayın üzerine yazıldı
+        assertThat(eventLog.readAfter(2, 10).overrun()).isFalse(); // son 4 olay hâlâ halkada
+        assertThat(eventLog.readAfter(2, 10).events()).extracting(CourseEvent::getSequence).containsExactly(3L, 4L, 5L, 6L);
+        assertThat(eventLog.readAfter(eventLog.latestSequence() + 1, 10).overrun()).isTrue(); // gelecekteki bir sıra
+    }
+
+    @Test
+    void rejectsCapacityThatIsNotPowerOfTwo() {
+        assertThatThrownBy(() -> new CourseEventLog(3)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static CourseRecord course(int id, String name, long version) {
+        return CourseRecord.of(id, name, 3, 1, "A", version);
+    }
+}
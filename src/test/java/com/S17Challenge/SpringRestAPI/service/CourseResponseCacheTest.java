@@ -0,0 +1,39 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Tek kurs yanıtlarının, gövde üretilirken değişen ya da silinen kurslar için önbellekte kalmadığını test eder.
+class CourseResponseCacheTest {
+
+    private final CourseResponseCache cache = new CourseResponseCache(new ObjectMapper(), new MappingJackson2CborHttpMessageConverter());
+
+    @Test
+    void doesNotKeepResponseForRecordChangedDuringSerialization() {
+        CourseRecord course = CourseRecord.of(1, "Spring", 3, 1, "A", 1);
+
+        // gövde üretilirken kurs silindi ya da güncellendi
+        CourseResponseCache.CachedResponse stale = cache.course(course, record -> false, WireFormat.JSON);
+        CourseResponseCache.CachedResponse fresh = cache.course(course, record -> true, WireFormat.JSON);
+
+        assertThat(fresh).isNotSameAs(stale); // eski yanıt saklanmamış, yeniden üretildi
+        assertThat(cache.course(course, record -> true, WireFormat.JSON)).isSameAs(fresh);
+    }
+
+    @Test
+    void replacesResponseWhenRecordChanges() {
+        CourseRecord course = CourseRecord.of(1, "Spring", 3, 1, "A", 1);
+        CourseResponseCache.CachedResponse first = cache.course(course, record -> true, WireFormat.JSON);
+
+        CourseRecord updated = CourseRecord.of(1, "Spring", 4, 1, "A", 2);
+        cache.onUpdated(course, updated);
+        CourseResponseCache.CachedResponse second = cache.course(updated, record -> true, WireFormat.JSON);
+
+        assertThat(second).isNotSameAs(first);
+        assertThat(second.etag()).isNotEqualTo(first.etag());
+    }
+}
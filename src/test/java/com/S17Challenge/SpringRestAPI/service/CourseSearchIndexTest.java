@@ -0,0 +1,48 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.Course;
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Bulanık aramanın yaygın parçalarla dolu büyük bir katalogda da doğru kursu bulduğunu doğrular.
+// Katalog, yaygın parçaların ("cou", "our", ...) listeleri tarama bütçesinden büyük olacak kadar büyüktür.
+class CourseSearchIndexTest {
+
+    private static final int CATALOG_SIZE = 50_000;
+    private static final CourseSearchIndex index = new CourseSearchIndex(true);
+
+    @BeforeAll
+    static void fillIndex() {
+        for (int id = 0; id < CATALOG_SIZE; id++) {
+            index.onAdded(CourseRecord.of(id, "course " + id, id % 5, 0));
+        }
+    }
+
+    @Test
+    void findsCourseWithTypoDespiteCommonGrams() {
+        List<Course> results = index.searchFuzzy("cuorse 12345", 5);
+        assertThat(results).isNotEmpty();
+        assertThat(results.get(0).getName()).isEqualTo("course 12345");
+    }
+
+    @Test
+    void queryWithOnlyCommonGramsStaysWithinLimit() {
+        // her parçanın listesi tarama bütçesinden büyük; en kısa liste de bütçe kadar taranır
+        assertThat(index.searchFuzzy("course", 10)).hasSizeLessThanOrEqualTo(10).isNotEmpty();
+    }
+
+    @Test
+    void removedCourseIsNotReturned() {
+        CourseRecord removed = CourseRecord.of(CATALOG_SIZE, "quantum chemistry", 3, 0);
+        index.onAdded(removed);
+        assertThat(index.searchFuzzy("quantum chemstry", 1)).extracting(Course::getName).containsExactly("quantum chemistry");
+
+        index.onRemoved(removed);
+        assertThat(index.searchFuzzy("quantum chemstry", 1)).isEmpty();
+    }
+}
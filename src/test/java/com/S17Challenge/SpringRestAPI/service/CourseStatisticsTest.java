@@ -0,0 +1,67 @@
+package com.S17Challenge.SpringRestAPI.service;
+
+import com.S17Challenge.SpringRestAPI.entity.CourseRecord;
+import com.S17Challenge.SpringRestAPI.entity.HighCourseGpa;
+import com.S17Challenge.SpringRestAPI.entity.LowCourseGpa;
+import com.S17Challenge.SpringRestAPI.entity.MediumCourseGpa;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Not istatistiklerinin sınırlı kaldığını test eder: sıfıra inen notlar silinir, fazlası OTHER altında toplanır.
+class CourseStatisticsTest {
+
+    private final CourseStatistics statistics = new CourseStatistics(new GpaCalculator(Map.of(
+            "lowCourseGpa", new LowCourseGpa(),
+            "mediumCourseGpa", new MediumCourseGpa(),
+            "highCourseGpa", new HighCourseGpa()), new MockEnvironment()));
+
+    @Test
+    void dropsNotesWhoseCountReachesZero() {
+        CourseRecord course = course(1, "A");
+        statistics.onAdded(course);
+        CourseRecord updated = course(1, "B");
+        statistics.onUpdated(course, updated);
+
+        assertThat(statistics.snapshot().getByNote()).containsExactly(Map.entry("B", 1L));
+
+        statistics.onRemoved(updated);
+        assertThat(statistics.snapshot().getByNote()).isEmpty();
+        assertThat(statistics.snapshot().getCourseCount()).isZero();
+    }
+
+    @Test
+    void foldsNotesBeyondLimitIntoOther() {
+        for (int id = 0; id < 1100; id++) {
+            statistics.onAdded(course(id, "note-" + id));
+        }
+
+        Map<String, Long> byNote = statistics.snapshot().getByNote();
+        assertThat(byNote).hasSize(1025); // 1024 ayrı not + OTHER
+        assertThat(byNote.get("OTHER")).isEqualTo(76);
+        assertThat(byNote.values().stream().mapToLong(Long::longValue).sum()).isEqualTo(1100);
+
+        for (int id = 0; id < 1100; id++) {
+            statistics.onRemoved(course(id, "note-" + id));
+        }
+        assertThat(statistics.snapshot().getByNote()).isEmpty(); // hiçbir sayaç eksiye inmemeli
+    }
+
+    @Test
+    void countsNewNotesSeparatelyOnceSpaceIsFreed() {
+        for (int id = 0; id < 1025; id++) {
+            statistics.onAdded(course(id, "note-" + id));
+        }
+        statistics.onRemoved(course(0, "note-0"));
+        statistics.onAdded(course(2000, "fresh"));
+
+        assertThat(statistics.snapshot().getByNote()).containsEntry("fresh", 1L).containsEntry("OTHER", 1L);
+    }
+
+    private static CourseRecord course(int id, String note) {
+        return CourseRecord.of(id, "Course " + id, 3, 1, note, 0);
+    }
+}